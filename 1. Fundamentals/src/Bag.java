@@ -1,29 +1,61 @@
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Bag<Item> implements Iterable<Item> {
 
     private Node first;             // first node in list
+    private int n;                  // number of items
+    private int modCount;           // number of structural changes, for fail-fast iterators
 
     private class Node {
         Item item;
         Node next;
     }
 
+    public boolean isEmpty() {
+        return first == null;
+    }
+
+    public int size() {
+        return n;
+    }
+
     public void add(Item item) {
         // same as push() in Stack
         Node oldfirst = first;
         first = new Node();
         first.item = item;
         first.next = oldfirst;
+        n++;
+        modCount++;
     }
 
     public Iterator<Item> iterator() {
         return new ListIterator();
     }
 
+    public Spliterator<Item> spliterator() {
+        // Splits by copying batches into arrays, which are SIZED and SUBSIZED.
+        return Spliterators.spliterator(iterator(), n, 0);
+    }
+
+    public Stream<Item> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<Item> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     private class ListIterator implements Iterator<Item> {
 
         private Node current = first;
+        private final int expectedModCount = modCount;
 
         public boolean hasNext() {
             return current != null;
@@ -34,6 +66,8 @@ public class Bag<Item> implements Iterable<Item> {
         }
 
         public Item next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
             Item item = current.item;
             current = current.next;
             return item;
@@ -0,0 +1,76 @@
+import java.util.Random;
+
+public class BagBenchmark {
+
+    // Build the same random adjacency structure with Bag and ChunkedBag,
+    // adding edges in random order so Bag nodes end up scattered over the
+    // heap, then time full scans that visit vertices in random order. The
+    // structure is much larger than the last-level cache, so each scan
+    // runs cold.
+    private static int[] permutation(int n, Random random) {
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++) {
+            a[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int r = random.nextInt(i + 1);
+            int t = a[i];
+            a[i] = a[r];
+            a[r] = t;
+        }
+        return a;
+    }
+
+    private static long scan(Bag<Integer>[] adj, int[] order) {
+        long sum = 0;
+        for (int v : order) {
+            for (int w : adj[v]) {
+                sum += w;
+            }
+        }
+        return sum;
+    }
+
+    private static long scan(ChunkedBag<Integer>[] adj, int[] order) {
+        long sum = 0;
+        for (int v : order) {
+            for (int w : adj[v]) {
+                sum += w;
+            }
+        }
+        return sum;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static void main(String[] args) {
+        int V = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int E = args.length > 1 ? Integer.parseInt(args[1]) : 16 * V;
+        int trials = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        Random random = new Random(42);
+
+        Bag<Integer>[] bags = (Bag<Integer>[]) new Bag<?>[V];
+        ChunkedBag<Integer>[] chunked = (ChunkedBag<Integer>[]) new ChunkedBag<?>[V];
+        for (int v = 0; v < V; v++) {
+            bags[v] = new Bag<Integer>();
+            chunked[v] = new ChunkedBag<Integer>();
+        }
+        for (int e = 0; e < E; e++) {
+            int v = random.nextInt(V);
+            Integer w = random.nextInt(V);  // same boxed object in both, so only the list layout differs
+            bags[v].add(w);
+            chunked[v].add(w);
+        }
+
+        for (int t = 0; t < trials; t++) {
+            int[] order = permutation(V, random);
+            long start = System.nanoTime();
+            long a = scan(bags, order);
+            double bagMs = (System.nanoTime() - start) / 1e6;
+            start = System.nanoTime();
+            long b = scan(chunked, order);
+            double chunkedMs = (System.nanoTime() - start) / 1e6;
+            if (a != b) throw new AssertionError("scans disagree");
+            System.out.printf("Bag %8.1f ms   ChunkedBag %8.1f ms%n", bagMs, chunkedMs);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class ChunkedBag<Item> implements Iterable<Item> {
+
+    // Unrolled linked list: each node holds an array of items, so iteration
+    // walks contiguous memory and touches one node per chunk instead of one
+    // node per item. Chunks start small for short lists and double up to
+    // MAX_CHUNK.
+    private static final int MIN_CHUNK = 16;
+    private static final int MAX_CHUNK = 64;
+
+    private Node<Item> first;       // most recently created chunk
+    private int n;                  // number of items
+
+    private static class Node<Item> {
+        final Object[] items;
+        int count;                  // number of used slots in items
+        final Node<Item> next;
+
+        Node(int capacity, Node<Item> next) {
+            items = new Object[capacity];
+            this.next = next;
+        }
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public void add(Item item) {
+        if (first == null || first.count == first.items.length) {
+            int capacity = first == null ? MIN_CHUNK : Math.min(2 * first.items.length, MAX_CHUNK);
+            first = new Node<Item>(capacity, first);
+        }
+        first.items[first.count++] = item;
+        n++;
+    }
+
+    public Iterator<Item> iterator() {
+        return new ChunkIterator();
+    }
+
+    public Spliterator<Item> spliterator() {
+        return Spliterators.spliterator(iterator(), n, 0);
+    }
+
+    public Stream<Item> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<Item> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
+    private class ChunkIterator implements Iterator<Item> {
+
+        private Node<Item> current = first;
+        private int i = 0;
+
+        public boolean hasNext() {
+            return current != null && i < current.count;
+        }
+
+        public void remove() {
+
+        }
+
+        @SuppressWarnings("unchecked")
+        public Item next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            Item item = (Item) current.items[i++];
+            if (i == current.count) {
+                current = current.next;
+                i = 0;
+            }
+            return item;
+        }
+    }
+}
\ No newline at end of file
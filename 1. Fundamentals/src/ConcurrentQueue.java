@@ -0,0 +1,99 @@
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+public class ConcurrentQueue<Item> {
+
+    // Michael-Scott lock-free queue: any number of threads may enqueue and
+    // dequeue at the same time. head always points to a dummy node whose
+    // successor holds the least recently added item.
+    private final AtomicReference<Node<Item>> head;
+    private final AtomicReference<Node<Item>> tail;
+
+    private static class Node<Item> {
+        volatile Item item;
+        volatile Node<Item> next;
+
+        Node(Item item) {
+            this.item = item;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+            AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+
+    public ConcurrentQueue() {
+        Node<Item> dummy = new Node<Item>(null);
+        head = new AtomicReference<Node<Item>>(dummy);
+        tail = new AtomicReference<Node<Item>>(dummy);
+    }
+
+    public boolean isEmpty() {
+        return head.get().next == null;
+    }
+
+    public void enqueue(Item item) {
+        if (item == null) throw new IllegalArgumentException("item is null");
+        Node<Item> node = new Node<Item>(item);
+        while (true) {
+            Node<Item> last = tail.get();
+            Node<Item> next = last.next;
+            if (last != tail.get()) {
+                continue;                           // tail moved, retry
+            }
+            if (next != null) {
+                tail.compareAndSet(last, next);     // help a lagging enqueue
+            } else if (NEXT.compareAndSet(last, null, node)) {
+                tail.compareAndSet(last, node);     // swing tail, may fail harmlessly
+                return;
+            }
+        }
+    }
+
+    public Item poll() {
+        // Remove the least recently added item, or return null if empty.
+        while (true) {
+            Node<Item> first = head.get();
+            Node<Item> last = tail.get();
+            Node<Item> next = first.next;
+            if (first != head.get()) {
+                continue;
+            }
+            if (next == null) {
+                return null;
+            }
+            if (first == last) {
+                tail.compareAndSet(last, next);     // tail is behind, help it
+            } else if (head.compareAndSet(first, next)) {
+                Item item = next.item;
+                next.item = null;                   // next is the new dummy; avoid loitering
+                return item;
+            }
+        }
+    }
+
+    public Item dequeue() {
+        Item item = poll();
+        if (item == null) throw new NoSuchElementException("Queue underflow");
+        return item;
+    }
+
+    public int drainTo(Queue<Item> queue, int max) {
+        // Move up to max items into queue, returns the number moved.
+        int count = 0;
+        while (count < max) {
+            Item item = poll();
+            if (item == null) {
+                break;
+            }
+            queue.enqueue(item);
+            count++;
+        }
+        return count;
+    }
+
+    public int drainTo(Queue<Item> queue) {
+        return drainTo(queue, Integer.MAX_VALUE);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ConcurrentQueueBenchmark {
+
+    // Time p producers and p consumers moving n items through one
+    // ConcurrentQueue, for p = 1, 2, 4, ... up to the number of cores.
+    private static double run(final int p, final int n) throws InterruptedException {
+        final ConcurrentQueue<Integer> queue = new ConcurrentQueue<Integer>();
+        final AtomicLong consumed = new AtomicLong();
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[2 * p];
+
+        for (int t = 0; t < p; t++) {
+            final int from = t * (n / p);
+            final int to = (t == p - 1) ? n : from + n / p;
+            threads[t] = new Thread(new Runnable() {
+                public void run() {
+                    await(start);
+                    for (int i = from; i < to; i++) {
+                        queue.enqueue(i);
+                    }
+                }
+            });
+        }
+        for (int t = p; t < 2 * p; t++) {
+            threads[t] = new Thread(new Runnable() {
+                public void run() {
+                    await(start);
+                    Queue<Integer> batch = new Queue<Integer>();
+                    while (consumed.get() < n) {
+                        int k = queue.drainTo(batch, 64);
+                        while (!batch.isEmpty()) {
+                            batch.dequeue();
+                        }
+                        if (k > 0) {
+                            consumed.addAndGet(k);
+                        }
+                    }
+                }
+            });
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return (System.nanoTime() - begin) / 1e6;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        run(1, n / 10);                                         // warm up
+        for (int p = 1; p <= cores; p *= 2) {
+            double ms = run(p, n);
+            System.out.printf("%3d producers %3d consumers %8.1f ms %10.0f ops/ms%n", p, p, ms, n / ms);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class ConcurrentUF {
+
+    // Union-find that any number of threads may use at once. Roots are
+    // linked by index order (smaller root under larger root), so two racing
+    // unions can never build a cycle, and find() shortens paths with CAS
+    // path splitting. No operation ever blocks.
+    private final AtomicIntegerArray id;    // parent link (site indexed)
+    private final AtomicInteger count;      // number of components
+
+    public ConcurrentUF(int n) {
+        id = new AtomicIntegerArray(n);
+        for (int i = 0; i < n; i++) {
+            id.set(i, i);
+        }
+        count = new AtomicInteger(n);
+    }
+
+    public int count() {
+        return count.get();
+    }
+
+    public int find(int p) {
+        // Path splitting: point each node on the way at its grandparent.
+        while (true) {
+            int parent = id.get(p);
+            if (parent == p) {
+                return p;
+            }
+            int grandparent = id.get(parent);
+            if (parent != grandparent) {
+                id.compareAndSet(p, parent, grandparent);   // losing the race is harmless
+            }
+            p = parent;
+        }
+    }
+
+    public boolean connected(int p, int q) {
+        while (true) {
+            int i = find(p);
+            int j = find(q);
+            if (i == j) {
+                return true;
+            }
+            // i may have been linked after find() returned; only a root is a valid answer.
+            if (id.get(i) == i) {
+                return false;
+            }
+        }
+    }
+
+    public boolean union(int p, int q) {
+        // Returns true if this call merged two components.
+        while (true) {
+            int i = find(p);
+            int j = find(q);
+            if (i == j) {
+                return false;
+            }
+            int lo = Math.min(i, j);
+            int hi = Math.max(i, j);
+            if (id.compareAndSet(lo, lo, hi)) {
+                count.decrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        // Stress test: union random edges from several threads at once and
+        // check the partition against the sequential quick-find UF.
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : 2 * Runtime.getRuntime().availableProcessors();
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        Random random = new Random();
+
+        for (int round = 0; round < rounds; round++) {
+            final int[] edges = new int[2 * n];
+            for (int i = 0; i < edges.length; i++) {
+                edges[i] = random.nextInt(n);
+            }
+
+            final ConcurrentUF cuf = new ConcurrentUF(n);
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                final int offset = t;
+                final int stride = threads;
+                workers[t] = new Thread(new Runnable() {
+                    public void run() {
+                        for (int e = offset; e < edges.length / 2; e += stride) {
+                            cuf.union(edges[2 * e], edges[2 * e + 1]);
+                        }
+                    }
+                });
+            }
+            for (Thread worker : workers) {
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            UF uf = new UF(n);
+            for (int e = 0; e < edges.length / 2; e++) {
+                if (!uf.connected(edges[2 * e], edges[2 * e + 1])) {
+                    uf.union(edges[2 * e], edges[2 * e + 1]);
+                }
+            }
+
+            if (uf.count() != cuf.count()) {
+                throw new AssertionError("round " + round + ": " + cuf.count() + " components, expected " + uf.count());
+            }
+            // Same partition iff the root mapping is a bijection.
+            Map<Integer, Integer> rootOf = new HashMap<Integer, Integer>();
+            Map<Integer, Integer> idOf = new HashMap<Integer, Integer>();
+            for (int p = 0; p < n; p++) {
+                Integer r = rootOf.put(uf.find(p), cuf.find(p));
+                Integer c = idOf.put(cuf.find(p), uf.find(p));
+                if ((r != null && r != cuf.find(p)) || (c != null && c != uf.find(p))) {
+                    throw new AssertionError("round " + round + ": site " + p + " in the wrong component");
+                }
+            }
+        }
+        System.out.println(rounds + " rounds of " + n + " unions on " + threads + " threads: OK");
+    }
+}
\ No newline at end of file
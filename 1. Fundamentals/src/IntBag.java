@@ -0,0 +1,78 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public class IntBag implements Iterable<Integer> {
+
+    private int[] a;                // items
+    private int n;                  // number of items
+
+    public IntBag() {
+        this(4);
+    }
+
+    public IntBag(int capacity) {
+        a = new int[Math.max(capacity, 1)];
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public void add(int item) {
+        // Grow the array by doubling when full.
+        if (n == a.length) {
+            a = Arrays.copyOf(a, 2 * a.length);
+        }
+        a[n++] = item;
+    }
+
+    public void forEachInt(IntConsumer action) {
+        for (int i = 0; i < n; i++) {
+            action.accept(a[i]);
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new ArrayIterator();
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(a, 0, n, 0);
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    private class ArrayIterator implements PrimitiveIterator.OfInt {
+
+        private int i = 0;
+
+        public boolean hasNext() {
+            return i < n;
+        }
+
+        public void remove() {
+
+        }
+
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return a[i++];
+        }
+    }
+}
\ No newline at end of file
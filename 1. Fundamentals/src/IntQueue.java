@@ -0,0 +1,109 @@
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public class IntQueue implements Iterable<Integer> {
+
+    private int[] q;                // queue elements, used as a circular buffer
+    private int first;              // index of least recently added item
+    private int last;               // index of next available slot
+    private int n;                  // number of items in queue
+
+    public IntQueue() {
+        this(4);
+    }
+
+    public IntQueue(int capacity) {
+        q = new int[Math.max(capacity, 1)];
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    private void resize(int max) {
+        // Move queue to a new array of size max, unwrapping it to start at 0.
+        int[] temp = new int[max];
+        for (int i = 0; i < n; i++) {
+            temp[i] = q[(first + i) % q.length];
+        }
+        q = temp;
+        first = 0;
+        last = n;
+    }
+
+    public void enqueue(int item) {
+        // Add item to the end of the queue.
+        if (n == q.length) {
+            resize(2 * q.length);
+        }
+        q[last++] = item;
+        if (last == q.length) {
+            last = 0;
+        }
+        n++;
+    }
+
+    public int dequeue() {
+        // Remove item from the beginning of the queue.
+        if (isEmpty()) throw new NoSuchElementException("Queue underflow");
+        int item = q[first++];
+        if (first == q.length) {
+            first = 0;
+        }
+        n--;
+        return item;
+    }
+
+    public void forEachInt(IntConsumer action) {
+        for (int i = 0; i < n; i++) {
+            action.accept(q[(first + i) % q.length]);
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new ArrayIterator();
+    }
+
+    public Spliterator.OfInt spliterator() {
+        if (first + n <= q.length) {
+            return Spliterators.spliterator(q, first, first + n, Spliterator.ORDERED);
+        }
+        // Wrapped around the end of the buffer; splits copy batches into arrays.
+        return Spliterators.spliterator(iterator(), n, Spliterator.ORDERED);
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    private class ArrayIterator implements PrimitiveIterator.OfInt {
+
+        private int i = 0;
+
+        public boolean hasNext() {
+            return i < n;
+        }
+
+        public void remove() {
+
+        }
+
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return q[(first + i++) % q.length];
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+public class IntStack implements Iterable<Integer> {
+
+    private int[] a;                // stack of items
+    private int n;                  // number of items
+
+    public IntStack() {
+        this(4);
+    }
+
+    public IntStack(int capacity) {
+        a = new int[Math.max(capacity, 1)];
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    private void ensureCapacity(int min) {
+        if (min > a.length) {
+            a = Arrays.copyOf(a, Math.max(min, 2 * a.length));
+        }
+    }
+
+    public void push(int item) {
+        // Add item to top of stack.
+        if (n == a.length) {
+            ensureCapacity(n + 1);
+        }
+        a[n++] = item;
+    }
+
+    public void pushAll(int[] items, int from, int to) {
+        // Push items[from..to) in order, so items[to - 1] ends up on top.
+        if (from < 0 || to > items.length || from > to) {
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds");
+        }
+        ensureCapacity(n + to - from);
+        System.arraycopy(items, from, a, n, to - from);
+        n += to - from;
+    }
+
+    public int pop() {
+        // Remove item from top of stack.
+        if (isEmpty()) throw new NoSuchElementException("Stack underflow");
+        return a[--n];
+    }
+
+    public int popInto(int[] dst) {
+        // Pop up to dst.length items into dst in pop order, returns the number popped.
+        int k = Math.min(dst.length, n);
+        for (int i = 0; i < k; i++) {
+            dst[i] = a[n - 1 - i];
+        }
+        n -= k;
+        return k;
+    }
+
+    public int peek() {
+        if (isEmpty()) throw new NoSuchElementException("Stack underflow");
+        return a[n - 1];
+    }
+
+    public void forEachInt(IntConsumer action) {
+        // LIFO order, same as the iterator.
+        for (int i = n - 1; i >= 0; i--) {
+            action.accept(a[i]);
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new ReverseArrayIterator();
+    }
+
+    public Spliterator.OfInt spliterator() {
+        // Iterator based to keep LIFO order; splits copy batches into arrays.
+        return Spliterators.spliterator(iterator(), n, Spliterator.ORDERED);
+    }
+
+    public IntStream stream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    public IntStream parallelStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    private class ReverseArrayIterator implements PrimitiveIterator.OfInt {
+        // Support LIFO iteration.
+        private int i = n - 1;
+
+        public boolean hasNext() {
+            return i >= 0;
+        }
+
+        public void remove() {
+
+        }
+
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            return a[i--];
+        }
+    }
+}
\ No newline at end of file
@@ -2,8 +2,26 @@ import java.util.Iterator;
 
 public class ResizingArrayStack<Item> implements Iterable<Item> {
 
-    private Item[] a = (Item[]) new Object[1];      // stack of items
+    private Item[] a;                               // stack of items
     private int n = 0;                              // number of items
+    private final double growthFactor;              // capacity multiplier when full
+    private final int shrinkThreshold;              // shrink when only 1/shrinkThreshold is used
+
+    public ResizingArrayStack() {
+        this(1, 2.0, 4);
+    }
+
+    public ResizingArrayStack(int capacity, double growthFactor, int shrinkThreshold) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        if (growthFactor <= 1.0) throw new IllegalArgumentException("growth factor must be greater than 1");
+        if (shrinkThreshold <= growthFactor) {
+            // Otherwise a shrink could leave the array full and thrash on the next push.
+            throw new IllegalArgumentException("shrink threshold must be greater than the growth factor");
+        }
+        a = (Item[]) new Object[capacity];
+        this.growthFactor = growthFactor;
+        this.shrinkThreshold = shrinkThreshold;
+    }
 
     public boolean isEmpty() {
         return n == 0;
@@ -16,30 +34,67 @@ public class ResizingArrayStack<Item> implements Iterable<Item> {
     private void resize(int max) {
         // Move stack to a new array of size max.
         Item[] temp = (Item[]) new Object[max];
-        for (int i = 0; i < n; i++) {
-            temp[i] = a[i];
-        }
+        System.arraycopy(a, 0, temp, 0, n);
         a = temp;
     }
 
+    private void ensureCapacity(int min) {
+        if (min > a.length) {
+            resize(Math.max(min, (int) Math.min(Integer.MAX_VALUE - 8, (long) (a.length * growthFactor) + 1)));
+        }
+    }
+
+    private void shrink() {
+        // A bulk pop may need several shrink steps; do them in one copy.
+        int max = a.length;
+        while (n > 0 && n <= max / shrinkThreshold) {
+            max = Math.max(1, (int) (max / growthFactor));
+        }
+        if (max < a.length) {
+            resize(max);
+        }
+    }
+
     public void push(Item item) {
         // Add item to top of stack
         if (n == a.length) {
-            resize(2 * a.length);
-            a[n++] = item;
+            ensureCapacity(n + 1);
+        }
+        a[n++] = item;
+    }
+
+    public void pushAll(Item[] items, int from, int to) {
+        // Push items[from..to) in order, so items[to - 1] ends up on top.
+        if (from < 0 || to > items.length || from > to) {
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds");
         }
+        ensureCapacity(n + to - from);
+        System.arraycopy(items, from, a, n, to - from);
+        n += to - from;
     }
 
     public Item pop() {
         // Remove item from top of stack
         Item item = a[--n];
         a[n] = null;                                // avoid loitering
-        if (n > 0 && n == a.length / 4) {
-            resize(a.length / 2);
-        }
+        shrink();
         return item;
     }
 
+    public int popInto(Item[] dst) {
+        // Pop up to dst.length items into dst in pop order, returns the number popped.
+        int k = Math.min(dst.length, n);
+        for (int i = 0; i < k; i++) {
+            dst[i] = a[n - 1 - i];
+        }
+        for (int i = n - k; i < n; i++) {
+            a[i] = null;                            // avoid loitering
+        }
+        n -= k;
+        shrink();
+        return k;
+    }
+
     public Iterator<Item> iterator() {
         return new ReverseArrayIterator();
     }
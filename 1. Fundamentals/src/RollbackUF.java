@@ -0,0 +1,80 @@
+public class RollbackUF {
+
+    // Union by rank without path compression, so every union changes at most
+    // one parent link and one rank, and can be undone exactly. find() is
+    // O(log n); rollback() is O(1) per undone union.
+    private int[] id;               // parent link (site indexed)
+    private byte[] rank;            // rank of subtree rooted at i (never more than 31)
+    private int count;              // number of components
+    private IntStack history;       // linked root * 2 + (1 if the parent's rank grew)
+
+    public RollbackUF(int n) {
+        count = n;
+        id = new int[n];
+        rank = new byte[n];
+        for (int i = 0; i < n; i++) {
+            id[i] = i;
+        }
+        history = new IntStack();
+    }
+
+    public int count() {
+        return count;
+    }
+
+    public boolean connected(int p, int q) {
+        return find(p) == find(q);
+    }
+
+    public int find(int p) {
+        while (p != id[p]) {
+            p = id[p];
+        }
+        return p;
+    }
+
+    public void union(int p, int q) {
+        int i = find(p);
+        int j = find(q);
+        if (i == j) {
+            return;
+        }
+
+        // Make root of smaller rank point to root of larger rank.
+        if (rank[i] > rank[j]) {
+            int t = i;
+            i = j;
+            j = t;
+        }
+        id[i] = j;
+        int grew = 0;
+        if (rank[i] == rank[j]) {
+            rank[j]++;
+            grew = 1;
+        }
+        history.push(2 * i + grew);
+        count--;
+    }
+
+    public int snapshot() {
+        // Token for the current state; pass it to rollback() to return here.
+        return history.size();
+    }
+
+    public void rollback(int snapshot) {
+        // Undo every union made since snapshot() returned this token.
+        if (snapshot < 0 || snapshot > history.size()) {
+            throw new IllegalArgumentException("snapshot " + snapshot + " is not reachable from the current state");
+        }
+        while (history.size() > snapshot) {
+            int entry = history.pop();
+            int i = entry >>> 1;
+            int j = id[i];
+            if ((entry & 1) == 1) {
+                rank[j]--;
+            }
+            id[i] = i;
+            count++;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,188 @@
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+public class SpillingIntQueue extends IntQueue implements Closeable {
+
+    // FIFO queue of ints whose heap use is bounded by two segments: a head
+    // segment being dequeued from and a tail segment being enqueued into.
+    // Full tail segments that are not needed yet are spilled, oldest first,
+    // to slots of a temp file through memory-mapped buffers and read back in
+    // order. Each slot is mapped once and reused, since Java cannot unmap.
+    private final int segmentSize;      // ints per segment
+    private int[] head;                 // segment being dequeued from
+    private int headPos;                // next item in head
+    private int headLen;                // number of items in head
+    private int[] tail;                 // segment being enqueued into
+    private int tailLen;                // number of items in tail
+    private int n;                      // number of items in queue
+
+    private IntQueue spilled;           // slots holding spilled segments, oldest first
+    private IntStack free;              // slots whose segment was read back
+    private ArrayList<IntBuffer> slots; // mapped view of each slot of the file
+    private File file;                  // created on first spill
+    private RandomAccessFile raf;
+    private FileChannel channel;
+
+    public SpillingIntQueue() {
+        this(1 << 20);
+    }
+
+    public SpillingIntQueue(int segmentSize) {
+        super(1);
+        if (segmentSize < 1) throw new IllegalArgumentException("segment size must be positive");
+        this.segmentSize = segmentSize;
+        head = new int[segmentSize];
+        tail = new int[segmentSize];
+        spilled = new IntQueue();
+        free = new IntStack();
+        slots = new ArrayList<IntBuffer>();
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public void enqueue(int item) {
+        // Add item to the end of the queue.
+        if (tailLen == segmentSize) {
+            if (headPos == headLen && spilled.isEmpty()) {
+                swap();                 // nothing in between, the tail can become the head
+            } else {
+                spill();
+            }
+        }
+        tail[tailLen++] = item;
+        n++;
+    }
+
+    public int dequeue() {
+        // Remove item from the beginning of the queue.
+        if (isEmpty()) throw new NoSuchElementException("Queue underflow");
+        if (headPos == headLen) {
+            if (spilled.isEmpty()) {
+                swap();
+            } else {
+                load();
+            }
+        }
+        n--;
+        return head[headPos++];
+    }
+
+    private void swap() {
+        int[] temp = head;
+        head = tail;
+        headPos = 0;
+        headLen = tailLen;
+        tail = temp;
+        tailLen = 0;
+    }
+
+    private void spill() {
+        // Write the full tail segment to the file and start an empty one.
+        try {
+            if (channel == null) {
+                file = File.createTempFile("queue", ".spill");
+                file.deleteOnExit();
+                raf = new RandomAccessFile(file, "rw");
+                channel = raf.getChannel();
+            }
+            if (free.isEmpty()) {
+                long offset = 4L * segmentSize * slots.size();
+                slots.add(channel.map(FileChannel.MapMode.READ_WRITE, offset, 4L * segmentSize).asIntBuffer());
+                free.push(slots.size() - 1);
+            }
+            int slot = free.pop();
+            IntBuffer buffer = slots.get(slot).duplicate();
+            buffer.put(tail, 0, segmentSize);
+            spilled.enqueue(slot);
+            tailLen = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot spill queue segment", e);
+        }
+    }
+
+    private void load() {
+        // Read the oldest spilled segment back into the head.
+        int slot = spilled.dequeue();
+        slots.get(slot).duplicate().get(head, 0, segmentSize);
+        free.push(slot);
+        headPos = 0;
+        headLen = segmentSize;
+    }
+
+    public void close() throws IOException {
+        // Release the spill file. The queue must not be used afterwards.
+        if (channel != null) {
+            channel.close();
+            raf.close();
+            file.delete();
+            channel = null;
+            slots.clear();
+        }
+    }
+
+    public void forEachInt(IntConsumer action) {
+        PrimitiveIterator.OfInt it = iterator();
+        while (it.hasNext()) {
+            action.accept(it.nextInt());
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new SegmentIterator();
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), n, Spliterator.ORDERED);
+    }
+
+    private class SegmentIterator implements PrimitiveIterator.OfInt {
+        // head, then each spilled segment in order, then tail.
+        private int i = headPos;
+        private PrimitiveIterator.OfInt segments = null;
+        private IntBuffer segment = null;
+        private int remaining = n;
+
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        public void remove() {
+
+        }
+
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            remaining--;
+            if (i < headLen) {
+                return head[i++];
+            }
+            if (remaining < tailLen) {
+                return tail[tailLen - 1 - remaining];
+            }
+            if (segment == null || !segment.hasRemaining()) {
+                if (segments == null) {
+                    segments = spilled.iterator();
+                }
+                segment = slots.get(segments.nextInt()).duplicate();
+            }
+            return segment.get();
+        }
+    }
+}
\ No newline at end of file
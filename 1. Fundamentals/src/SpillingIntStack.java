@@ -0,0 +1,185 @@
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+
+public class SpillingIntStack extends IntStack implements Closeable {
+
+    // LIFO stack of ints whose heap use is bounded by two segments. When the
+    // in-memory top fills up its lower segment is spilled to a slot of a temp
+    // file through a memory-mapped buffer; when it runs empty the most
+    // recently spilled segment is read back. Spilling only half the buffer
+    // keeps push/pop at the boundary from thrashing the file.
+    private final int segmentSize;      // ints per segment
+    private int[] top;                  // most recently pushed items, two segments
+    private int topLen;                 // number of items in top
+    private int n;                      // number of items on the stack
+
+    private IntStack spilled;           // slots holding spilled segments, most recent on top
+    private IntStack free;              // slots whose segment was read back
+    private ArrayList<IntBuffer> slots; // mapped view of each slot of the file
+    private File file;                  // created on first spill
+    private RandomAccessFile raf;
+    private FileChannel channel;
+
+    public SpillingIntStack() {
+        this(1 << 20);
+    }
+
+    public SpillingIntStack(int segmentSize) {
+        super(1);
+        if (segmentSize < 1) throw new IllegalArgumentException("segment size must be positive");
+        this.segmentSize = segmentSize;
+        top = new int[2 * segmentSize];
+        spilled = new IntStack();
+        free = new IntStack();
+        slots = new ArrayList<IntBuffer>();
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public void push(int item) {
+        // Add item to top of stack.
+        if (topLen == top.length) {
+            spill();
+        }
+        top[topLen++] = item;
+        n++;
+    }
+
+    public void pushAll(int[] items, int from, int to) {
+        if (from < 0 || to > items.length || from > to) {
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") out of bounds");
+        }
+        for (int i = from; i < to; i++) {
+            push(items[i]);
+        }
+    }
+
+    public int pop() {
+        // Remove item from top of stack.
+        if (isEmpty()) throw new NoSuchElementException("Stack underflow");
+        if (topLen == 0) {
+            load();
+        }
+        n--;
+        return top[--topLen];
+    }
+
+    public int popInto(int[] dst) {
+        int k = Math.min(dst.length, n);
+        for (int i = 0; i < k; i++) {
+            dst[i] = pop();
+        }
+        return k;
+    }
+
+    public int peek() {
+        if (isEmpty()) throw new NoSuchElementException("Stack underflow");
+        if (topLen == 0) {
+            load();
+        }
+        return top[topLen - 1];
+    }
+
+    private void spill() {
+        // Write the lower segment of top to the file and shift the upper one down.
+        try {
+            if (channel == null) {
+                file = File.createTempFile("stack", ".spill");
+                file.deleteOnExit();
+                raf = new RandomAccessFile(file, "rw");
+                channel = raf.getChannel();
+            }
+            if (free.isEmpty()) {
+                long offset = 4L * segmentSize * slots.size();
+                slots.add(channel.map(FileChannel.MapMode.READ_WRITE, offset, 4L * segmentSize).asIntBuffer());
+                free.push(slots.size() - 1);
+            }
+            int slot = free.pop();
+            slots.get(slot).duplicate().put(top, 0, segmentSize);
+            spilled.push(slot);
+            System.arraycopy(top, segmentSize, top, 0, topLen - segmentSize);
+            topLen -= segmentSize;
+        } catch (IOException e) {
+            throw new UncheckedIOException("cannot spill stack segment", e);
+        }
+    }
+
+    private void load() {
+        // Read the most recently spilled segment back into the empty top.
+        int slot = spilled.pop();
+        slots.get(slot).duplicate().get(top, 0, segmentSize);
+        free.push(slot);
+        topLen = segmentSize;
+    }
+
+    public void close() throws IOException {
+        // Release the spill file. The stack must not be used afterwards.
+        if (channel != null) {
+            channel.close();
+            raf.close();
+            file.delete();
+            channel = null;
+            slots.clear();
+        }
+    }
+
+    public void forEachInt(IntConsumer action) {
+        PrimitiveIterator.OfInt it = iterator();
+        while (it.hasNext()) {
+            action.accept(it.nextInt());
+        }
+    }
+
+    public PrimitiveIterator.OfInt iterator() {
+        return new SegmentIterator();
+    }
+
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), n, Spliterator.ORDERED);
+    }
+
+    private class SegmentIterator implements PrimitiveIterator.OfInt {
+        // LIFO: top from the end, then each spilled segment from the end.
+        private int i = topLen - 1;
+        private PrimitiveIterator.OfInt segments = spilled.iterator();
+        private IntBuffer segment = null;
+        private int j = 0;
+
+        public boolean hasNext() {
+            return i >= 0 || j > 0 || segments.hasNext();
+        }
+
+        public void remove() {
+
+        }
+
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            if (i >= 0) {
+                return top[i--];
+            }
+            if (j == 0) {
+                segment = slots.get(segments.nextInt());
+                j = segmentSize;
+            }
+            return segment.get(--j);
+        }
+    }
+}
\ No newline at end of file
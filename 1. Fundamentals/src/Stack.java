@@ -1,14 +1,42 @@
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class Stack<Item> implements Iterable<Item> {
 
-    private Node first;             // top of stack (most recently added node)
+    private static final int POOL_LIMIT = 1 << 16;                 // free nodes kept per thread
+    private static final ThreadLocal<NodePool> POOL = ThreadLocal.withInitial(NodePool::new);
+
+    private Node<Item> first;       // top of stack (most recently added node)
     private int n;                  // number of items
+    private int modCount;           // number of structural changes, for fail-fast iterators
+    private final boolean recycle; // take nodes from, and return them to, the current thread's pool
 
-    private class Node {
+    private static class Node<Item> {
         // nested class to define nodes
         Item item;
-        Node next;
+        Node<Item> next;
+    }
+
+    private static class NodePool {
+        // Free nodes linked through next, shared by all recycling stacks of one thread.
+        Node<?> free;
+        int size;
+    }
+
+    public Stack() {
+        this(false);
+    }
+
+    public Stack(boolean recycleNodes) {
+        // A recycling stack takes nodes from, and returns them to, the free
+        // list of whichever thread is calling, looked up on every call, so it
+        // can be handed to and used on other threads like any other stack.
+        recycle = recycleNodes;
     }
 
     public boolean isEmpty() {
@@ -21,27 +49,81 @@ public class Stack<Item> implements Iterable<Item> {
 
     public void push(Item item) {
         // Add item to the top of the stack.
-        Node oldfirst = first;
-        first = new Node();
+        Node<Item> oldfirst = first;
+        first = newNode();
         first.item = item;
         first.next = oldfirst;
         n++;
+        modCount++;
     }
 
     public Item pop() {
         // Remove item from top of stack.
-        Item item = first.item;
-        first = first.next;
+        Node<Item> oldfirst = first;
+        Item item = oldfirst.item;
+        first = oldfirst.next;
         n--;
+        modCount++;
+        recycle(oldfirst);
         return item;
     }
 
+    public void clear() {
+        // Remove all items, returning the nodes to the pool if recycling.
+        while (first != null) {
+            Node<Item> oldfirst = first;
+            first = oldfirst.next;
+            recycle(oldfirst);
+        }
+        n = 0;
+        modCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<Item> newNode() {
+        NodePool pool = recycle ? POOL.get() : null;
+        if (pool == null || pool.free == null) {
+            return new Node<Item>();
+        }
+        Node<Item> node = (Node<Item>) pool.free;
+        pool.free = node.next;
+        pool.size--;
+        return node;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void recycle(Node<Item> node) {
+        node.item = null;                       // avoid loitering
+        NodePool pool = recycle ? POOL.get() : null;
+        if (pool == null || pool.size == POOL_LIMIT) {
+            node.next = null;
+            return;
+        }
+        node.next = (Node<Item>) pool.free;
+        pool.free = node;
+        pool.size++;
+    }
+
     public Iterator<Item> iterator() {
         return new ListIterator();
     }
 
+    public Spliterator<Item> spliterator() {
+        // Splits by copying batches into arrays, which are SIZED and SUBSIZED.
+        return Spliterators.spliterator(iterator(), n, Spliterator.ORDERED);
+    }
+
+    public Stream<Item> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    public Stream<Item> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     private class ListIterator implements Iterator<Item> {
-        private Node current = first;
+        private Node<Item> current = first;
+        private final int expectedModCount = modCount;
 
         public boolean hasNext() {
             return current != null;
@@ -52,6 +134,8 @@ public class Stack<Item> implements Iterable<Item> {
         }
 
         public Item next() {
+            if (modCount != expectedModCount) throw new ConcurrentModificationException();
+            if (!hasNext()) throw new NoSuchElementException();
             Item item = current.item;
             current = current.next;
             return item;
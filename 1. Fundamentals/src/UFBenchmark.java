@@ -0,0 +1,55 @@
+import java.util.Random;
+
+public class UFBenchmark {
+
+    // Time m random unions (each preceded by a connected() check, as in
+    // UF.main) on n sites for every union-find variant. Quick-find is
+    // quadratic, so it only runs when n is small enough to finish.
+    private static final int QUICK_FIND_LIMIT = 100000;
+
+    private static int[] pairs(int n, int m, long seed) {
+        Random random = new Random(seed);
+        int[] a = new int[2 * m];
+        for (int i = 0; i < a.length; i++) {
+            a[i] = random.nextInt(n);
+        }
+        return a;
+    }
+
+    private static void report(String name, long start, int count) {
+        double ms = (System.nanoTime() - start) / 1e6;
+        System.out.printf("%-28s %10.1f ms %10d components%n", name, ms, count);
+    }
+
+    private static void run(int n, int[] a) {
+        if (n <= QUICK_FIND_LIMIT) {
+            long start = System.nanoTime();
+            UF uf = new UF(n);
+            for (int i = 0; i < a.length; i += 2) {
+                if (!uf.connected(a[i], a[i + 1])) {
+                    uf.union(a[i], a[i + 1]);
+                }
+            }
+            report("UF (quick-find)", start, uf.count());
+        }
+        for (WeightedQuickUnionUF.Compression c : WeightedQuickUnionUF.Compression.values()) {
+            long start = System.nanoTime();
+            WeightedQuickUnionUF uf = new WeightedQuickUnionUF(n, c);
+            for (int i = 0; i < a.length; i += 2) {
+                if (!uf.connected(a[i], a[i + 1])) {
+                    uf.union(a[i], a[i + 1]);
+                }
+            }
+            report("WeightedQuickUnionUF " + c, start, uf.count());
+        }
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : n;
+        int[] a = pairs(n, m, 42);
+        run(Math.min(n, 10000), pairs(Math.min(n, 10000), Math.min(m, 10000), 7));   // warm up
+        System.out.println(n + " sites, " + m + " unions");
+        run(n, a);
+    }
+}
\ No newline at end of file
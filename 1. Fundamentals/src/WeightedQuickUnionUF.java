@@ -1,10 +1,21 @@
 public class WeightedQuickUnionUF {
 
+    public enum Compression {
+        NONE,                       // plain weighted quick-union
+        HALVING,                    // point every other node on the path to its grandparent
+        FULL                        // point every node on the path to the root
+    }
+
     private int[] id;               // parent link (site indexed)
     private int[] sz;               // size of component for roots (site indexed)
     private int count;              // number of components
+    private final Compression compression;
 
     public WeightedQuickUnionUF(int n) {
+        this(n, Compression.NONE);
+    }
+
+    public WeightedQuickUnionUF(int n, Compression compression) {
         count = n;
         id = new int[n];
         for (int i = 0; i < id.length; i++) {
@@ -14,6 +25,7 @@ public class WeightedQuickUnionUF {
         for (int i = 0; i < id.length; i++) {
             sz[i] = 1;
         }
+        this.compression = compression;
     }
 
     public int count() {
@@ -25,11 +37,33 @@ public class WeightedQuickUnionUF {
     }
 
     public int find(int p) {
-        // Follow links to find a root.
-        while (p != id[p]) {
-            p = id[p];
+        switch (compression) {
+            case HALVING:
+                // One pass: each visited node skips to its grandparent.
+                while (p != id[p]) {
+                    id[p] = id[id[p]];
+                    p = id[p];
+                }
+                return p;
+            case FULL:
+                // Two passes: find the root, then link every node on the path to it.
+                int root = p;
+                while (root != id[root]) {
+                    root = id[root];
+                }
+                while (p != root) {
+                    int next = id[p];
+                    id[p] = root;
+                    p = next;
+                }
+                return root;
+            default:
+                // Follow links to find a root.
+                while (p != id[p]) {
+                    p = id[p];
+                }
+                return p;
         }
-        return p;
     }
 
     public void union(int p, int q) {
@@ -42,7 +76,7 @@ public class WeightedQuickUnionUF {
         // Make smaller root point to larger one.
         if (sz[i] < sz[j]) {
             id[i] = j;
-            sz[j] += sz[j];
+            sz[j] += sz[i];
         } else {
             id[j] = i;
             sz[i] += sz[j];
@@ -0,0 +1,48 @@
+package sorting;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class CopyBenchmark {
+
+    // Baseline for SortBenchmark and QuadraticSortBenchmark: just the copy of
+    // the input into the work array that each of their calls starts with.
+    // The cost does not depend on the distribution, so that is not a param.
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"int", "long", "double", "Integer", "String"})
+    public String type;
+
+    private Object input;
+    private Object work;
+
+    @Setup
+    public void setUp() {
+        input = Inputs.array(Inputs.keys("random", size, 42), type);
+        work = Inputs.array(Inputs.keys("random", size, 42), type);
+    }
+
+    @Benchmark
+    public Object copy() {
+        System.arraycopy(input, 0, work, 0, size);
+        return work;
+    }
+}
\ No newline at end of file
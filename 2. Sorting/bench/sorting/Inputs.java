@@ -0,0 +1,122 @@
+package sorting;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Random;
+
+final class Inputs {
+
+    // Input arrays and sorter handles for the JMH benchmarks. The sorters
+    // live in the default package, which a benchmark class (JMH requires a
+    // named package) cannot import, so they are looked up by name once per
+    // trial and called through a MethodHandle.
+    private static final int FEW_UNIQUE = 16;           // distinct keys for "fewunique"
+    private static final int ZIPF_KEYS = 1 << 16;       // distinct keys for "zipf"
+
+    private Inputs() {
+    }
+
+    static int[] keys(String distribution, int n, long seed) {
+        // Non-negative keys, so the String form sorts like the numbers.
+        Random random = new Random(seed);
+        int[] a = new int[n];
+        switch (distribution) {
+            case "random":
+                for (int i = 0; i < n; i++) a[i] = random.nextInt(Integer.MAX_VALUE);
+                break;
+            case "sorted":
+                for (int i = 0; i < n; i++) a[i] = i;
+                break;
+            case "reversed":
+                for (int i = 0; i < n; i++) a[i] = n - 1 - i;
+                break;
+            case "organpipe":
+                for (int i = 0; i < n; i++) a[i] = Math.min(i, n - 1 - i);
+                break;
+            case "fewunique":
+                for (int i = 0; i < n; i++) a[i] = random.nextInt(FEW_UNIQUE);
+                break;
+            case "zipf": {
+                // Key k (0-based) with probability proportional to 1 / (k + 1).
+                int m = Math.min(n, ZIPF_KEYS);
+                double[] cdf = new double[m];
+                double sum = 0.0;
+                for (int k = 0; k < m; k++) {
+                    sum += 1.0 / (k + 1);
+                    cdf[k] = sum;
+                }
+                for (int i = 0; i < n; i++) {
+                    int k = Arrays.binarySearch(cdf, random.nextDouble() * sum);
+                    a[i] = Math.min(k < 0 ? -k - 1 : k, m - 1);
+                }
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("unknown distribution: " + distribution);
+        }
+        return a;
+    }
+
+    static Object array(int[] keys, String type) {
+        int n = keys.length;
+        switch (type) {
+            case "int":
+                return keys;
+            case "long": {
+                long[] a = new long[n];
+                for (int i = 0; i < n; i++) a[i] = keys[i];
+                return a;
+            }
+            case "double": {
+                double[] a = new double[n];
+                for (int i = 0; i < n; i++) a[i] = keys[i];
+                return a;
+            }
+            case "Integer": {
+                Integer[] a = new Integer[n];
+                for (int i = 0; i < n; i++) a[i] = keys[i];
+                return a;
+            }
+            case "String": {
+                String[] a = new String[n];
+                for (int i = 0; i < n; i++) a[i] = pad(keys[i]);
+                return a;
+            }
+            default:
+                throw new IllegalArgumentException("unknown element type: " + type);
+        }
+    }
+
+    private static String pad(int key) {
+        // Zero-padded to 10 digits, so lexicographic order is numeric order.
+        char[] s = new char[10];
+        for (int i = s.length - 1; i >= 0; i--) {
+            s[i] = (char) ('0' + key % 10);
+            key /= 10;
+        }
+        return new String(s);
+    }
+
+    static MethodHandle sorter(String name, Object array) throws ReflectiveOperationException {
+        // A handle of type (Object)void that sorts the whole array.
+        Class<?> sorter = Class.forName(name);
+        Class<?> type = array.getClass().getComponentType().isPrimitive() ? array.getClass() : Comparable[].class;
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle sort;
+        try {
+            Method m = sorter.getDeclaredMethod("sort", type);
+            m.setAccessible(true);
+            sort = lookup.unreflect(m);
+        } catch (NoSuchMethodException e) {
+            // QuickSortPartition3Way only sorts a range.
+            Method m = sorter.getDeclaredMethod("sort", type, int.class, int.class);
+            m.setAccessible(true);
+            sort = MethodHandles.insertArguments(lookup.unreflect(m), 1, 0, Array.getLength(array) - 1);
+        }
+        return sort.asType(MethodType.methodType(void.class, Object.class));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,58 @@
+package sorting;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuadraticSortBenchmark {
+
+    // Same as SortBenchmark for the quadratic sorters, which are kept apart
+    // so their sizes can stay small: 1e5 already takes seconds per call. The
+    // timed copy is negligible here, but is in CopyBenchmark all the same.
+    @Param({"SelectionSort", "InsertionSort"})
+    public String sorter;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    @Param({"random", "sorted", "reversed", "organpipe", "fewunique", "zipf"})
+    public String distribution;
+
+    @Param({"int", "long", "double", "Integer", "String"})
+    public String type;
+
+    private Object input;
+    private Object work;
+    private MethodHandle sort;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        input = Inputs.array(Inputs.keys(distribution, size, 42), type);
+        work = Inputs.array(Inputs.keys(distribution, size, 42), type);
+        sort = Inputs.sorter(sorter, work);
+    }
+
+    @Benchmark
+    public Object sort() throws Throwable {
+        System.arraycopy(input, 0, work, 0, size);
+        sort.invokeExact(work);
+        return work;
+    }
+}
\ No newline at end of file
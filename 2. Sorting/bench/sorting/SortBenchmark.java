@@ -0,0 +1,93 @@
+package sorting;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SortBenchmark {
+
+    // Linearithmic sorters. Each call copies the input into a work array and
+    // sorts that. The copy is timed along with the sort, since the per-call
+    // timestamps of @Setup(Level.Invocation) skew sub-millisecond results;
+    // subtract CopyBenchmark for the same size and type to get the sort
+    // alone. The default sizes stop at 1e6 so a full run fits
+    // in a working day; larger ones run with, for example,
+    //   -p size=10000000,100000000 -jvmArgsAppend -Xmx16g
+    @Param({"Shellsort", "MergeSort", "MergeSortBU", "QuickSort", "QuickSortPartition3Way", "HeapSort"})
+    public String sorter;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"random", "sorted", "reversed", "organpipe", "fewunique", "zipf"})
+    public String distribution;
+
+    @Param({"int", "long", "double", "Integer", "String"})
+    public String type;
+
+    private Object input;
+    private Object work;
+    private MethodHandle sort;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        input = Inputs.array(Inputs.keys(distribution, size, 42), type);
+        work = Inputs.array(Inputs.keys(distribution, size, 42), type);
+        sort = Inputs.sorter(sorter, work);
+    }
+
+    @Benchmark
+    public Object sort() throws Throwable {
+        System.arraycopy(input, 0, work, 0, size);
+        sort.invokeExact(work);
+        return work;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Like org.openjdk.jmh.Main, but runs this package's benchmarks and
+        // writes JSON to sort-benchmark.json unless -rf / -rff say otherwise.
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp()) {
+            cli.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(cli);
+        if (cli.getIncludes().isEmpty()) {
+            options.include(SortBenchmark.class.getPackage().getName() + "\\.");
+        }
+        if (!cli.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!cli.getResult().hasValue()) {
+            options.result("sort-benchmark.json");
+        }
+        Runner runner = new Runner(options.build());
+        if (cli.shouldList()) {
+            runner.list();
+        } else {
+            runner.run();
+        }
+    }
+}
\ No newline at end of file
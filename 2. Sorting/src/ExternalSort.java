@@ -0,0 +1,245 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ExternalSort {
+
+    // Sort a file of fixed-width records that does not fit in memory.
+    // Records are ordered by their first keyLength bytes, compared as
+    // unsigned bytes, and records with equal keys keep their input order.
+    //
+    // 1. Read as many records as fit in the memory budget, sort them with
+    //    MergeSort and write them to a temporary run file. Repeat until the
+    //    input is consumed.
+    // 2. Merge up to MAX_FAN_IN runs at a time with a priority queue keyed
+    //    on each run's current record, until a single run remains.
+    //
+    // All file access goes through FileChannel with large heap buffers. Runs
+    // are created in tempDir and deleted when sort returns or fails.
+    private static final int MAX_FAN_IN = 128;
+    private static final int RECORD_OVERHEAD = 48;     // bytes per in-memory Record object and references
+
+    public static void sort(Path input, Path output, Path tempDir, int recordSize, int keyLength, long memory) throws IOException {
+        if (recordSize < 1) throw new IllegalArgumentException("record size must be positive");
+        if (keyLength < 1 || keyLength > recordSize) throw new IllegalArgumentException("key length must be in [1, record size]");
+        if (Files.size(input) % recordSize != 0) {
+            throw new IllegalArgumentException("input size is not a multiple of the record size " + recordSize);
+        }
+        int runRecords = (int) Math.max(1, Math.min(Integer.MAX_VALUE / recordSize, memory / (recordSize + RECORD_OVERHEAD)));
+
+        List<Path> created = new ArrayList<Path>();        // every run file, so a failure leaves none behind
+        try {
+            List<Path> runs = createRuns(input, tempDir, created, recordSize, keyLength, runRecords);
+            int buffer = bufferSize(memory / (Math.min(runs.size(), MAX_FAN_IN) + 1), recordSize);
+            while (runs.size() > 1) {
+                List<Path> merged = new ArrayList<Path>();
+                for (int i = 0; i < runs.size(); i += MAX_FAN_IN) {
+                    List<Path> group = runs.subList(i, Math.min(i + MAX_FAN_IN, runs.size()));
+                    Path run = createRun(tempDir, created);
+                    merge(group, run, recordSize, keyLength, buffer);
+                    for (Path p : group) {
+                        Files.delete(p);
+                    }
+                    merged.add(run);
+                }
+                runs = merged;
+            }
+            if (runs.isEmpty()) {
+                Files.write(output, new byte[0]);
+            } else {
+                Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            for (Path p : created) {
+                Files.deleteIfExists(p);
+            }
+        }
+    }
+
+    private static Path createRun(Path tempDir, List<Path> created) throws IOException {
+        Path run = Files.createTempFile(tempDir, "run", ".sort");
+        created.add(run);
+        return run;
+    }
+
+    private static int bufferSize(long bytes, int recordSize) {
+        // Largest multiple of recordSize not above bytes, but at least one record.
+        long records = Math.max(1, Math.min(bytes, 1 << 26) / recordSize);
+        return (int) (records * recordSize);
+    }
+
+    private static List<Path> createRuns(Path input, Path tempDir, List<Path> created, int recordSize, int keyLength, int runRecords) throws IOException {
+        List<Path> runs = new ArrayList<Path>();
+        byte[] data = new byte[runRecords * recordSize];
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            while (true) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining() && in.read(buffer) != -1) {
+                }
+                int n = buffer.position() / recordSize;
+                if (n == 0) {
+                    break;
+                }
+                Record[] records = new Record[n];
+                for (int i = 0; i < n; i++) {
+                    records[i] = new Record(data, i * recordSize, keyLength);
+                }
+                MergeSort.sort(records);
+
+                Path run = createRun(tempDir, created);
+                try (FileChannel out = FileChannel.open(run, StandardOpenOption.WRITE)) {
+                    Writer writer = new Writer(out, bufferSize(1 << 20, recordSize));
+                    for (Record r : records) {
+                        writer.write(data, r.offset, recordSize);
+                    }
+                    writer.flush();
+                }
+                runs.add(run);
+                if (n < runRecords) {
+                    break;
+                }
+            }
+        }
+        return runs;
+    }
+
+    private static void merge(List<Path> runs, Path output, int recordSize, int keyLength, int buffer) throws IOException {
+        List<Cursor> cursors = new ArrayList<Cursor>();
+        try (FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE)) {
+            MaxPQ<Cursor> pq = new MaxPQ<Cursor>(runs.size());
+            for (int i = 0; i < runs.size(); i++) {
+                Cursor cursor = new Cursor(FileChannel.open(runs.get(i), StandardOpenOption.READ), i, recordSize, keyLength, buffer);
+                cursors.add(cursor);
+                if (cursor.advance()) {
+                    pq.insert(cursor);
+                }
+            }
+            Writer writer = new Writer(out, buffer);
+            while (!pq.isEmpty()) {
+                Cursor min = pq.delMax();               // Cursor reverses the order, so this is the smallest
+                writer.write(min.data, min.pos, recordSize);
+                if (min.advance()) {
+                    pq.insert(min);
+                }
+            }
+            writer.flush();
+        } finally {
+            for (Cursor cursor : cursors) {
+                cursor.channel.close();
+            }
+        }
+    }
+
+    private static int compareKeys(byte[] a, int i, byte[] b, int j, int keyLength) {
+        for (int k = 0; k < keyLength; k++) {
+            int cmp = (a[i + k] & 0xFF) - (b[j + k] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    private static class Record implements Comparable<Record> {
+        // A record inside the run buffer, identified by its offset.
+        final byte[] data;
+        final int offset;
+        final int keyLength;
+
+        Record(byte[] data, int offset, int keyLength) {
+            this.data = data;
+            this.offset = offset;
+            this.keyLength = keyLength;
+        }
+
+        public int compareTo(Record that) {
+            return compareKeys(data, offset, that.data, that.offset, keyLength);
+        }
+    }
+
+    private static class Cursor implements Comparable<Cursor> {
+        // Current record of one sorted run, read through a buffer.
+        final FileChannel channel;
+        final int run;                  // index of the run, breaks ties so the merge is stable
+        final int recordSize;
+        final int keyLength;
+        final byte[] data;
+        int pos;                        // offset of the current record in data
+        int limit;                      // end of valid data
+
+        Cursor(FileChannel channel, int run, int recordSize, int keyLength, int buffer) {
+            this.channel = channel;
+            this.run = run;
+            this.recordSize = recordSize;
+            this.keyLength = keyLength;
+            this.data = new byte[buffer];
+            this.pos = -recordSize;
+        }
+
+        boolean advance() throws IOException {
+            // Move to the next record; false once the run is exhausted.
+            pos += recordSize;
+            if (pos < limit) {
+                return true;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining() && channel.read(buffer) != -1) {
+            }
+            pos = 0;
+            limit = buffer.position();
+            return limit > 0;
+        }
+
+        public int compareTo(Cursor that) {
+            // Reversed, so that MaxPQ hands out the smallest record first.
+            int cmp = compareKeys(that.data, that.pos, data, pos, keyLength);
+            return cmp != 0 ? cmp : that.run - run;
+        }
+    }
+
+    private static class Writer {
+        // Collects records in a heap buffer and writes it out when full.
+        final FileChannel channel;
+        final ByteBuffer buffer;
+
+        Writer(FileChannel channel, int size) {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(size);
+        }
+
+        void write(byte[] data, int offset, int length) throws IOException {
+            if (buffer.remaining() < length) {
+                flush();
+            }
+            buffer.put(data, offset, length);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        // java ExternalSort input output recordSize keyLength memoryMB [tempDir]
+        Path input = Paths.get(args[0]);
+        Path output = Paths.get(args[1]);
+        int recordSize = Integer.parseInt(args[2]);
+        int keyLength = Integer.parseInt(args[3]);
+        long memory = Long.parseLong(args[4]) << 20;
+        Path tempDir = args.length > 5 ? Paths.get(args[5]) : output.toAbsolutePath().getParent();
+        long start = System.nanoTime();
+        sort(input, output, tempDir, recordSize, keyLength, memory);
+        System.out.printf("sorted %d records in %.1f s%n", Files.size(output) / recordSize, (System.nanoTime() - start) / 1e9);
+    }
+}
\ No newline at end of file
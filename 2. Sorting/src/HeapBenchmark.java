@@ -0,0 +1,85 @@
+import java.util.Random;
+
+public class HeapBenchmark {
+
+    // Fill a priority queue with n random keys (one by one, then via
+    // heapify) and drain it, for binary and 4-ary heaps over Integer and
+    // int keys. Prints the best of a few trials in milliseconds.
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int trials = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Random random = new Random(42);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt();
+        }
+
+        for (int d : new int[]{2, 4}) {
+            // Inserting after heapify of an empty array has to grow it from length 0.
+            MaxPQ<Integer> pq = MaxPQ.heapify(new Integer[0], 0, d);
+            IntMaxPQ ipq = IntMaxPQ.heapify(new int[0], 0, d);
+            for (int i = 0; i < 10; i++) {
+                pq.insert(i);
+                ipq.insert(i);
+            }
+            if (pq.size() != 10 || ipq.size() != 10) throw new AssertionError("insert after empty heapify");
+            drain(pq);
+            drain(ipq);
+        }
+
+        System.out.printf("%-6s %14s %14s %14s %14s%n", "n=" + n,
+                "MaxPQ insert", "MaxPQ heapify", "IntMaxPQ ins.", "IntMaxPQ heap.");
+        for (int d : new int[]{2, 4}) {
+            double[] best = {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE};
+            for (int t = 0; t < trials; t++) {
+                Integer[] boxed = new Integer[n];
+                for (int i = 0; i < n; i++) {
+                    boxed[i] = keys[i];
+                }
+
+                long start = System.nanoTime();
+                MaxPQ<Integer> pq = new MaxPQ<Integer>(1, d);
+                for (Integer key : boxed) {
+                    pq.insert(key);
+                }
+                drain(pq);
+                best[0] = Math.min(best[0], (System.nanoTime() - start) / 1e6);
+
+                start = System.nanoTime();
+                drain(MaxPQ.heapify(boxed, n, d));
+                best[1] = Math.min(best[1], (System.nanoTime() - start) / 1e6);
+
+                start = System.nanoTime();
+                IntMaxPQ ipq = new IntMaxPQ(1, d);
+                for (int key : keys) {
+                    ipq.insert(key);
+                }
+                drain(ipq);
+                best[2] = Math.min(best[2], (System.nanoTime() - start) / 1e6);
+
+                start = System.nanoTime();
+                drain(IntMaxPQ.heapify(keys.clone(), n, d));
+                best[3] = Math.min(best[3], (System.nanoTime() - start) / 1e6);
+            }
+            System.out.printf("d=%-4d %14.1f %14.1f %14.1f %14.1f%n", d, best[0], best[1], best[2], best[3]);
+        }
+    }
+
+    private static void drain(MaxPQ<Integer> pq) {
+        Integer last = Integer.MAX_VALUE;
+        while (!pq.isEmpty()) {
+            Integer max = pq.delMax();
+            if (max > last) throw new AssertionError("heap order violated");
+            last = max;
+        }
+    }
+
+    private static void drain(IntMaxPQ pq) {
+        int last = Integer.MAX_VALUE;
+        while (!pq.isEmpty()) {
+            int max = pq.delMax();
+            if (max > last) throw new AssertionError("heap order violated");
+            last = max;
+        }
+    }
+}
\ No newline at end of file
@@ -1,13 +1,77 @@
+import java.util.Comparator;
+
 public class HeapSort {
 
+    // In place on the caller's array: the heap is built bottom-up in
+    // a[lo..hi] itself and the max is swapped to the end each round, so no
+    // array is allocated. A 4-ary heap has half the height of a binary one;
+    // each sink does a few more compares per level but touches fewer levels
+    // and cache lines.
+    private static final int D = 4;
+
     public static void sort(Comparable[] a) {
-        int n = a.length;
-        for (int k = n / 2; k >= 1; k--) {
-            HelperHeap.sink(a, k, n);
+        sort(a, 0, a.length - 1);
+    }
+
+    public static void sort(Comparable[] a, int lo, int hi) {
+        // Heapsort a[lo..hi] only.
+        int n = hi - lo + 1;
+        HelperHeap.heapify(a, lo, n, D);
+        while (n > 1) {
+            Helper.exchange(a, lo, lo + --n);
+            HelperHeap.sink(a, lo, 0, n, D);
+        }
+    }
+
+    public static <T> void sort(T[] a, Comparator<? super T> c) {
+        sort(a, 0, a.length - 1, c);
+    }
+
+    public static <T> void sort(T[] a, int lo, int hi, Comparator<? super T> c) {
+        int n = hi - lo + 1;
+        HelperHeap.heapify(a, lo, n, D, c);
+        while (n > 1) {
+            Helper.exchange(a, lo, lo + --n);
+            HelperHeap.sink(a, lo, 0, n, D, c);
         }
+    }
+
+    public static void sort(int[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    public static void sort(int[] a, int lo, int hi) {
+        int n = hi - lo + 1;
+        HelperHeap.heapify(a, lo, n, D);
+        while (n > 1) {
+            Helper.exchange(a, lo, lo + --n);
+            HelperHeap.sink(a, lo, 0, n, D);
+        }
+    }
+
+    public static void sort(long[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    public static void sort(long[] a, int lo, int hi) {
+        int n = hi - lo + 1;
+        HelperHeap.heapify(a, lo, n, D);
+        while (n > 1) {
+            Helper.exchange(a, lo, lo + --n);
+            HelperHeap.sink(a, lo, 0, n, D);
+        }
+    }
+
+    public static void sort(double[] a) {
+        sort(a, 0, a.length - 1);
+    }
+
+    public static void sort(double[] a, int lo, int hi) {
+        int n = hi - lo + 1;
+        HelperHeap.heapify(a, lo, n, D);
         while (n > 1) {
-            HelperHeap.exch(a, n, n--);
-            HelperHeap.sink(a, 1, n);
+            Helper.exchange(a, lo, lo + --n);
+            HelperHeap.sink(a, lo, 0, n, D);
         }
     }
 }
\ No newline at end of file
@@ -1,17 +1,79 @@
+import java.util.Comparator;
 import java.util.Random;
 
 public class Helper {
 
     public static boolean less(Comparable x, Comparable y) {
+        if (SortStats.ENABLED) SortStats.compare();
         return x.compareTo(y) < 0;
     }
 
+    public static int compare(Comparable x, Comparable y) {
+        if (SortStats.ENABLED) SortStats.compare();
+        return x.compareTo(y);
+    }
+
     public static void exchange(Comparable[] a, int i, int j) {
+        if (SortStats.ENABLED) SortStats.exchange();
         Comparable t = a[i];
         a[i] = a[j];
         a[j] = t;
     }
 
+    public static <T> boolean less(Comparator<? super T> c, T x, T y) {
+        if (SortStats.ENABLED) SortStats.compare();
+        return c.compare(x, y) < 0;
+    }
+
+    public static <T> int compare(Comparator<? super T> c, T x, T y) {
+        if (SortStats.ENABLED) SortStats.compare();
+        return c.compare(x, y);
+    }
+
+    public static void exchange(Object[] a, int i, int j) {
+        if (SortStats.ENABLED) SortStats.exchange();
+        Object t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    public static boolean less(int x, int y) {
+        if (SortStats.ENABLED) SortStats.compare();
+        return x < y;
+    }
+
+    public static void exchange(int[] a, int i, int j) {
+        if (SortStats.ENABLED) SortStats.exchange();
+        int t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    public static boolean less(long x, long y) {
+        if (SortStats.ENABLED) SortStats.compare();
+        return x < y;
+    }
+
+    public static void exchange(long[] a, int i, int j) {
+        if (SortStats.ENABLED) SortStats.exchange();
+        long t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
+    public static boolean less(double x, double y) {
+        // Same order as Double.compareTo: -0.0 < 0.0 and NaN is largest.
+        if (SortStats.ENABLED) SortStats.compare();
+        return Double.compare(x, y) < 0;
+    }
+
+    public static void exchange(double[] a, int i, int j) {
+        if (SortStats.ENABLED) SortStats.exchange();
+        double t = a[i];
+        a[i] = a[j];
+        a[j] = t;
+    }
+
     static void print(Comparable[] a) {
         for (Comparable i : a) {
             System.out.print(i + " ");
@@ -20,7 +82,39 @@ public class Helper {
     }
 
     static boolean isSorted(Comparable[] a) {
-        for (int i = 0; i < a.length; i++) {
+        for (int i = 1; i < a.length; i++) {
+            if (less(a[i], a[i - 1]))
+                return false;
+        }
+        return true;
+    }
+
+    static <T> boolean isSorted(T[] a, Comparator<? super T> c) {
+        for (int i = 1; i < a.length; i++) {
+            if (less(c, a[i], a[i - 1]))
+                return false;
+        }
+        return true;
+    }
+
+    static boolean isSorted(int[] a) {
+        for (int i = 1; i < a.length; i++) {
+            if (less(a[i], a[i - 1]))
+                return false;
+        }
+        return true;
+    }
+
+    static boolean isSorted(long[] a) {
+        for (int i = 1; i < a.length; i++) {
+            if (less(a[i], a[i - 1]))
+                return false;
+        }
+        return true;
+    }
+
+    static boolean isSorted(double[] a) {
+        for (int i = 1; i < a.length; i++) {
             if (less(a[i], a[i - 1]))
                 return false;
         }
@@ -52,4 +146,34 @@ public class Helper {
             a[r] = temp;
         }
     }
+
+    static void shuffle(int[] a) {
+        int n = a.length;
+        for (int i = 0; i < n; i++) {
+            int r = i + uniform(n - i);      // between i and n-1
+            int temp = a[i];
+            a[i] = a[r];
+            a[r] = temp;
+        }
+    }
+
+    static void shuffle(long[] a) {
+        int n = a.length;
+        for (int i = 0; i < n; i++) {
+            int r = i + uniform(n - i);      // between i and n-1
+            long temp = a[i];
+            a[i] = a[r];
+            a[r] = temp;
+        }
+    }
+
+    static void shuffle(double[] a) {
+        int n = a.length;
+        for (int i = 0; i < n; i++) {
+            int r = i + uniform(n - i);      // between i and n-1
+            double temp = a[i];
+            a[i] = a[r];
+            a[r] = temp;
+        }
+    }
 }
\ No newline at end of file
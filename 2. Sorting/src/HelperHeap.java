@@ -1,60 +1,195 @@
-public class HelperHeap<Key extends Comparable<Key>> {
+import java.util.Comparator;
 
-    public static boolean less(int i, int j) {
-        return pq[i].compareTo(pq[j]) < 0;
+public class HelperHeap {
+
+    // Heap helpers shared by HeapSort, MaxPQ and IntMaxPQ. A heap of n keys
+    // lives in pq[lo..lo+n-1] and is d-ary: heap node k (0-based) is pq[lo + k],
+    // its children are nodes d*k+1..d*k+d and its parent is (k-1)/d. Sink and
+    // swim move a hole instead of exchanging, so each level costs one write;
+    // SortStats counts each hole move as the exchange it replaces.
+
+    static void sink(Comparable[] pq, int lo, int k, int n, int d) {
+        Comparable v = pq[lo + k];
+        while (true) {
+            int j = d * k + 1;
+            if (j >= n) break;
+            int last = Math.min(j + d, n);
+            for (int i = j + 1; i < last; i++) {
+                if (Helper.less(pq[lo + j], pq[lo + i])) j = i;
+            }
+            if (!Helper.less(v, pq[lo + j])) break;
+            pq[lo + k] = pq[lo + j];
+            if (SortStats.ENABLED) SortStats.exchange();
+            k = j;
+        }
+        pq[lo + k] = v;
     }
 
-    public static void exch(int i, int j) {
-        Key t = pq[i];
-        pq[i] = pq[j];
-        pq[j] = t;
+    static void swim(Comparable[] pq, int lo, int k, int d) {
+        Comparable v = pq[lo + k];
+        while (k > 0) {
+            int p = (k - 1) / d;
+            if (!Helper.less(pq[lo + p], v)) break;
+            pq[lo + k] = pq[lo + p];
+            if (SortStats.ENABLED) SortStats.exchange();
+            k = p;
+        }
+        pq[lo + k] = v;
     }
 
-    public static void swim(int k) {
-        while (k > 1 && less(k / 2, k)) {
-            exch(k / 2, k);
-            k = k / 2;
+    static void heapify(Comparable[] pq, int lo, int n, int d) {
+        // Floyd's bottom-up construction: sink every internal node, last first, in O(n).
+        if (n < 2) return;
+        for (int k = (n - 2) / d; k >= 0; k--) {
+            sink(pq, lo, k, n, d);
         }
     }
 
-    public static void sink(int k) {
-        while (2 * k <= n) {
-            int j = 2 * k;
-            if (j < n && less(j, j + 1)) {
-                j++;
+    static void sink(int[] pq, int lo, int k, int n, int d) {
+        int v = pq[lo + k];
+        while (true) {
+            int j = d * k + 1;
+            if (j >= n) break;
+            int last = Math.min(j + d, n);
+            for (int i = j + 1; i < last; i++) {
+                if (Helper.less(pq[lo + j], pq[lo + i])) j = i;
             }
-            if (!less(k, j)) {
-                break;
+            if (!Helper.less(v, pq[lo + j])) break;
+            pq[lo + k] = pq[lo + j];
+            if (SortStats.ENABLED) SortStats.exchange();
+            k = j;
+        }
+        pq[lo + k] = v;
+    }
+
+    static void swim(int[] pq, int lo, int k, int d) {
+        int v = pq[lo + k];
+        while (k > 0) {
+            int p = (k - 1) / d;
+            if (!Helper.less(pq[lo + p], v)) break;
+            pq[lo + k] = pq[lo + p];
+            if (SortStats.ENABLED) SortStats.exchange();
+            k = p;
+        }
+        pq[lo + k] = v;
+    }
+
+    static void heapify(int[] pq, int lo, int n, int d) {
+        // Floyd's bottom-up construction: sink every internal node, last first, in O(n).
+        if (n < 2) return;
+        for (int k = (n - 2) / d; k >= 0; k--) {
+            sink(pq, lo, k, n, d);
+        }
+    }
+
+    static void sink(long[] pq, int lo, int k, int n, int d) {
+        long v = pq[lo + k];
+        while (true) {
+            int j = d * k + 1;
+            if (j >= n) break;
+            int last = Math.min(j + d, n);
+            for (int i = j + 1; i < last; i++) {
+                if (Helper.less(pq[lo + j], pq[lo + i])) j = i;
             }
-            exch(k, j);
+            if (!Helper.less(v, pq[lo + j])) break;
+            pq[lo + k] = pq[lo + j];
+            if (SortStats.ENABLED) SortStats.exchange();
             k = j;
         }
+        pq[lo + k] = v;
     }
 
-    static void sink(Comparable[] pq, int k, int n) {
-        while (2 * k <= n) {
-            int j = 2 * k;
-            if (j < n && less(pq, j, j + 1)) j++;
-            if (!less(pq, k, j)) break;
-            exch(pq, k, j);
+    static void swim(long[] pq, int lo, int k, int d) {
+        long v = pq[lo + k];
+        while (k > 0) {
+            int p = (k - 1) / d;
+            if (!Helper.less(pq[lo + p], v)) break;
+            pq[lo + k] = pq[lo + p];
+            if (SortStats.ENABLED) SortStats.exchange();
+            k = p;
+        }
+        pq[lo + k] = v;
+    }
+
+    static void heapify(long[] pq, int lo, int n, int d) {
+        // Floyd's bottom-up construction: sink every internal node, last first, in O(n).
+        if (n < 2) return;
+        for (int k = (n - 2) / d; k >= 0; k--) {
+            sink(pq, lo, k, n, d);
+        }
+    }
+
+    static void sink(double[] pq, int lo, int k, int n, int d) {
+        double v = pq[lo + k];
+        while (true) {
+            int j = d * k + 1;
+            if (j >= n) break;
+            int last = Math.min(j + d, n);
+            for (int i = j + 1; i < last; i++) {
+                if (Helper.less(pq[lo + j], pq[lo + i])) j = i;
+            }
+            if (!Helper.less(v, pq[lo + j])) break;
+            pq[lo + k] = pq[lo + j];
+            if (SortStats.ENABLED) SortStats.exchange();
             k = j;
         }
+        pq[lo + k] = v;
+    }
+
+    static void swim(double[] pq, int lo, int k, int d) {
+        double v = pq[lo + k];
+        while (k > 0) {
+            int p = (k - 1) / d;
+            if (!Helper.less(pq[lo + p], v)) break;
+            pq[lo + k] = pq[lo + p];
+            if (SortStats.ENABLED) SortStats.exchange();
+            k = p;
+        }
+        pq[lo + k] = v;
+    }
+
+    static void heapify(double[] pq, int lo, int n, int d) {
+        // Floyd's bottom-up construction: sink every internal node, last first, in O(n).
+        if (n < 2) return;
+        for (int k = (n - 2) / d; k >= 0; k--) {
+            sink(pq, lo, k, n, d);
+        }
     }
 
-    private static boolean less(Comparable[] pq, int i, int j) {
-        return pq[i - 1].compareTo(pq[j - 1]) < 0;
+    static <T> void sink(T[] pq, int lo, int k, int n, int d, Comparator<? super T> c) {
+        T v = pq[lo + k];
+        while (true) {
+            int j = d * k + 1;
+            if (j >= n) break;
+            int last = Math.min(j + d, n);
+            for (int i = j + 1; i < last; i++) {
+                if (Helper.less(c, pq[lo + j], pq[lo + i])) j = i;
+            }
+            if (!Helper.less(c, v, pq[lo + j])) break;
+            pq[lo + k] = pq[lo + j];
+            if (SortStats.ENABLED) SortStats.exchange();
+            k = j;
+        }
+        pq[lo + k] = v;
     }
 
-    static void exch(Object[] pq, int i, int j) {
-        Object swap = pq[i - 1];
-        pq[i - 1] = pq[j - 1];
-        pq[j - 1] = swap;
+    static <T> void swim(T[] pq, int lo, int k, int d, Comparator<? super T> c) {
+        T v = pq[lo + k];
+        while (k > 0) {
+            int p = (k - 1) / d;
+            if (!Helper.less(c, pq[lo + p], v)) break;
+            pq[lo + k] = pq[lo + p];
+            if (SortStats.ENABLED) SortStats.exchange();
+            k = p;
+        }
+        pq[lo + k] = v;
     }
 
-    // print array to standard output
-    private static void show(Comparable[] a) {
-        for (int i = 0; i < a.length; i++) {
-            System.out.println(a[i]);
+    static <T> void heapify(T[] pq, int lo, int n, int d, Comparator<? super T> c) {
+        // Floyd's bottom-up construction: sink every internal node, last first, in O(n).
+        if (n < 2) return;
+        for (int k = (n - 2) / d; k >= 0; k--) {
+            sink(pq, lo, k, n, d, c);
         }
     }
 }
\ No newline at end of file
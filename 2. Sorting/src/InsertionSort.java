@@ -1,3 +1,5 @@
+import java.util.Comparator;
+
 public class InsertionSort {
 
     public static Comparable[] sort(Comparable[] a) {
@@ -9,4 +11,67 @@ public class InsertionSort {
         }
         return a;
     }
+
+    public static Comparable[] sort(Comparable[] a, int lo, int hi) {
+        // Sort a[lo..hi] only.
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && Helper.less(a[j], a[j - 1]); j--) {
+                Helper.exchange(a, j, j - 1);
+            }
+        }
+        return a;
+    }
+
+    public static <T> T[] sort(T[] a, Comparator<? super T> c) {
+        return sort(a, 0, a.length - 1, c);
+    }
+
+    public static <T> T[] sort(T[] a, int lo, int hi, Comparator<? super T> c) {
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && Helper.less(c, a[j], a[j - 1]); j--) {
+                Helper.exchange(a, j, j - 1);
+            }
+        }
+        return a;
+    }
+
+    public static int[] sort(int[] a) {
+
+        for (int i = 0; i < a.length; i++) {
+            for (int j = i; j > 0 && Helper.less(a[j], a[j - 1]); j--) {
+                Helper.exchange(a, j, j - 1);
+            }
+        }
+        return a;
+    }
+
+    public static int[] sort(int[] a, int lo, int hi) {
+        // Sort a[lo..hi] only.
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && Helper.less(a[j], a[j - 1]); j--) {
+                Helper.exchange(a, j, j - 1);
+            }
+        }
+        return a;
+    }
+
+    public static long[] sort(long[] a) {
+
+        for (int i = 0; i < a.length; i++) {
+            for (int j = i; j > 0 && Helper.less(a[j], a[j - 1]); j--) {
+                Helper.exchange(a, j, j - 1);
+            }
+        }
+        return a;
+    }
+
+    public static double[] sort(double[] a) {
+
+        for (int i = 0; i < a.length; i++) {
+            for (int j = i; j > 0 && Helper.less(a[j], a[j - 1]); j--) {
+                Helper.exchange(a, j, j - 1);
+            }
+        }
+        return a;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+import java.util.NoSuchElementException;
+
+public class IntMaxPQ {
+
+    // MaxPQ for int keys: the same resizable d-ary heap over an int[], so
+    // keys are compared directly instead of through compareTo on boxed Integers.
+    private static final int DEFAULT_ARITY = 2;
+
+    private int[] pq;
+    private int n = 0;
+    private final int d;
+
+    public IntMaxPQ() {
+        this(1);
+    }
+
+    public IntMaxPQ(int initCapacity) {
+        this(initCapacity, DEFAULT_ARITY);
+    }
+
+    public IntMaxPQ(int initCapacity, int d) {
+        this(new int[Math.max(initCapacity, 1)], 0, d);
+    }
+
+    private IntMaxPQ(int[] pq, int n, int d) {
+        if (d < 2) {
+            throw new IllegalArgumentException("arity must be at least 2");
+        }
+        this.pq = pq;
+        this.n = n;
+        this.d = d;
+    }
+
+    public static IntMaxPQ heapify(int[] keys) {
+        return heapify(keys, keys.length, DEFAULT_ARITY);
+    }
+
+    public static IntMaxPQ heapify(int[] keys, int n, int d) {
+        // Heap-orders keys[0..n-1] in O(n); the queue uses keys as its array until it resizes.
+        if (n < 0 || n > keys.length) {
+            throw new IllegalArgumentException("n out of range: " + n);
+        }
+        IntMaxPQ q = new IntMaxPQ(keys, n, d);
+        HelperHeap.heapify(keys, 0, n, d);
+        return q;
+    }
+
+    public boolean isEmpty() {
+        return n == 0;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public int max() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Priority queue underflow");
+        }
+        return pq[0];
+    }
+
+    public void insert(int v) {
+        if (n == pq.length) {
+            resize(Math.max(1, 2 * pq.length));         // heapify may hand over an empty array
+        }
+        pq[n] = v;
+        HelperHeap.swim(pq, 0, n++, d);
+    }
+
+    public int delMax() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Priority queue underflow");
+        }
+        int max = pq[0];
+        pq[0] = pq[--n];
+        HelperHeap.sink(pq, 0, 0, n, d);
+        if (n > 0 && n == pq.length / 4) {
+            resize(pq.length / 2);
+        }
+        return max;
+    }
+
+    public int replaceMax(int v) {
+        // delMax() then insert(v) with a single sink.
+        int max = max();
+        pq[0] = v;
+        HelperHeap.sink(pq, 0, 0, n, d);
+        return max;
+    }
+
+    private void resize(int capacity) {
+        int[] temp = new int[capacity];
+        System.arraycopy(pq, 0, temp, 0, n);
+        pq = temp;
+    }
+}
\ No newline at end of file
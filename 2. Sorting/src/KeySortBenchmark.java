@@ -0,0 +1,76 @@
+import java.util.Comparator;
+import java.util.Random;
+
+public class KeySortBenchmark {
+
+    // Sort the same records by a multi-field order four ways: a chained
+    // Comparator, a hand-written Comparator, and MergeSort.sortByLong and
+    // sortByInt with the fields folded into one long or int key. Prints the
+    // best of a few trials in milliseconds and checks that all four give the
+    // same stable order.
+    private static class Employee {
+        private final int dept;
+        private final int grade;
+
+        Employee(int dept, int grade) {
+            this.dept = dept;
+            this.grade = grade;
+        }
+
+        int dept() {
+            return dept;
+        }
+
+        int grade() {
+            return grade;
+        }
+
+        long key() {
+            // dept, then grade, both non-negative ints
+            return (long) dept << 32 | grade;
+        }
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int trials = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Random random = new Random(42);
+        Employee[] records = new Employee[n];
+        for (int i = 0; i < n; i++) {
+            records[i] = new Employee(random.nextInt(100), random.nextInt(1000));
+        }
+
+        Comparator<Employee> chained = Comparator.comparingInt(Employee::dept).thenComparingInt(Employee::grade);
+        Comparator<Employee> manual = (x, y) -> x.dept != y.dept
+                ? Integer.compare(x.dept, y.dept) : Integer.compare(x.grade, y.grade);
+
+        double[] best = {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE};
+        for (int t = 0; t < trials; t++) {
+            Employee[] a = records.clone();
+            Employee[] b = records.clone();
+            Employee[] c = records.clone();
+            Employee[] d = records.clone();
+
+            long start = System.nanoTime();
+            MergeSort.sort(a, chained);
+            best[0] = Math.min(best[0], (System.nanoTime() - start) / 1e6);
+            start = System.nanoTime();
+            MergeSort.sort(b, manual);
+            best[1] = Math.min(best[1], (System.nanoTime() - start) / 1e6);
+            start = System.nanoTime();
+            MergeSort.sortByLong(c, e -> e.key());
+            best[2] = Math.min(best[2], (System.nanoTime() - start) / 1e6);
+            start = System.nanoTime();
+            MergeSort.sortByInt(d, e -> e.dept * 1000 + e.grade);   // grade < 1000
+            best[3] = Math.min(best[3], (System.nanoTime() - start) / 1e6);
+
+            for (int i = 0; i < n; i++) {
+                if (a[i] != b[i] || a[i] != c[i] || a[i] != d[i]) {
+                    throw new AssertionError("orders differ at " + i);
+                }
+            }
+        }
+        System.out.printf("n=%d  comparing().thenComparing() %.1f ms  Comparator %.1f ms  sortByLong %.1f ms  sortByInt %.1f ms%n",
+                n, best[0], best[1], best[2], best[3]);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+import java.util.Random;
+
+public class LSDRadixSort {
+
+    // Least-significant-digit-first radix sort on 8-bit digits: 4 passes for
+    // int keys and 8 for long keys, each a stable key-indexed counting sort.
+    // Passes alternate between a[] and a single aux[] instead of copying
+    // back, and a pass whose digit is the same for every key is skipped.
+    // The sign bit is flipped in the top digit so negatives come first.
+    private static final int BITS = 8;
+    private static final int R = 1 << BITS;
+    private static final int MASK = R - 1;
+
+    public static int[] sort(int[] a) {
+        int n = a.length;
+        int[] src = a;
+        int[] dst = new int[n];
+        for (int d = 0; d < 32 / BITS; d++) {
+            int shift = BITS * d;
+            int flip = (d == 32 / BITS - 1) ? R / 2 : 0;
+
+            int[] count = new int[R + 1];
+            for (int i = 0; i < n; i++) {
+                count[(((src[i] >>> shift) & MASK) ^ flip) + 1]++;
+            }
+            if (n == 0 || count[(((src[0] >>> shift) & MASK) ^ flip) + 1] == n) {
+                continue;                       // every key has this digit
+            }
+            for (int r = 0; r < R; r++) {
+                count[r + 1] += count[r];
+            }
+            for (int i = 0; i < n; i++) {
+                dst[count[((src[i] >>> shift) & MASK) ^ flip]++] = src[i];
+            }
+            int[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != a) {
+            System.arraycopy(src, 0, a, 0, n);
+        }
+        return a;
+    }
+
+    public static long[] sort(long[] a) {
+        int n = a.length;
+        long[] src = a;
+        long[] dst = new long[n];
+        for (int d = 0; d < 64 / BITS; d++) {
+            int shift = BITS * d;
+            int flip = (d == 64 / BITS - 1) ? R / 2 : 0;
+
+            int[] count = new int[R + 1];
+            for (int i = 0; i < n; i++) {
+                count[((int) ((src[i] >>> shift) & MASK) ^ flip) + 1]++;
+            }
+            if (n == 0 || count[((int) ((src[0] >>> shift) & MASK) ^ flip) + 1] == n) {
+                continue;
+            }
+            for (int r = 0; r < R; r++) {
+                count[r + 1] += count[r];
+            }
+            for (int i = 0; i < n; i++) {
+                dst[count[(int) ((src[i] >>> shift) & MASK) ^ flip]++] = src[i];
+            }
+            long[] temp = src;
+            src = dst;
+            dst = temp;
+        }
+        if (src != a) {
+            System.arraycopy(src, 0, a, 0, n);
+        }
+        return a;
+    }
+
+    public static void main(String[] args) {
+        // Compare with MergeSort on the same random int keys.
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        Random random = new Random(42);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt();
+        }
+        double radix = Double.MAX_VALUE;
+        double merge = Double.MAX_VALUE;
+        for (int t = 0; t < 5; t++) {
+            int[] a = keys.clone();
+            long start = System.nanoTime();
+            sort(a);
+            radix = Math.min(radix, (System.nanoTime() - start) / 1e6);
+            if (!Helper.isSorted(a)) throw new AssertionError("not sorted");
+            a = keys.clone();
+            start = System.nanoTime();
+            MergeSort.sort(a);
+            merge = Math.min(merge, (System.nanoTime() - start) / 1e6);
+        }
+        System.out.printf("n=%d  LSDRadixSort %.1f ms  MergeSort %.1f ms  (%.1fx)%n", n, radix, merge, merge / radix);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+public class MSDRadixSort {
+
+    // Most-significant-digit-first string sort. Each char is taken as two
+    // 8-bit digits (high byte, then low byte), which keeps the count arrays
+    // small yet orders any Java string exactly like String.compareTo. The
+    // end of a string is digit -1, so a prefix sorts before its extensions.
+    // Subarrays of at most CUTOFF strings are finished by insertion sort.
+    private static final int R = 256;
+    private static final int CUTOFF = 15;
+
+    public static String[] sort(String[] a) {
+        String[] aux = new String[a.length];
+        sort(a, aux, 0, a.length - 1, 0);
+        return a;
+    }
+
+    private static int digitAt(String s, int d) {
+        int i = d >> 1;
+        if (i >= s.length()) {
+            return -1;
+        }
+        char c = s.charAt(i);
+        return (d & 1) == 0 ? c >>> 8 : c & 0xFF;
+    }
+
+    private static void sort(String[] a, String[] aux, int lo, int hi, int d) {
+        // Sort a[lo..hi], whose strings agree on the first d digits.
+        if (hi <= lo + CUTOFF) {
+            InsertionSort.sort(a, lo, hi);
+            return;
+        }
+        int[] count = new int[R + 2];
+        for (int i = lo; i <= hi; i++) {
+            count[digitAt(a[i], d) + 2]++;
+        }
+        for (int r = 0; r < R + 1; r++) {
+            count[r + 1] += count[r];
+        }
+        for (int i = lo; i <= hi; i++) {
+            aux[count[digitAt(a[i], d) + 1]++] = a[i];
+        }
+        System.arraycopy(aux, 0, a, lo, hi - lo + 1);
+
+        // count[r] is now the end of digit r - 1; the strings that ended (digit -1) are done.
+        for (int r = 0; r < R; r++) {
+            sort(a, aux, lo + count[r], lo + count[r + 1] - 1, d + 1);
+        }
+    }
+}
\ No newline at end of file
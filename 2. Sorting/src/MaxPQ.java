@@ -1,10 +1,51 @@
+import java.util.NoSuchElementException;
+
 public class MaxPQ<Key extends Comparable<Key>> {
 
+    // Resizable d-ary max heap in pq[0..n-1] (see HelperHeap). d = 2 is the
+    // classic binary heap; d = 4 halves the height, so delMax touches fewer
+    // cache lines at the cost of a few more compares per level.
+    private static final int DEFAULT_ARITY = 2;
+
     private Key[] pq;
     private int n = 0;
+    private final int d;
+
+    public MaxPQ() {
+        this(1);
+    }
+
+    public MaxPQ(int initCapacity) {
+        this(initCapacity, DEFAULT_ARITY);
+    }
+
+    @SuppressWarnings("unchecked")
+    public MaxPQ(int initCapacity, int d) {
+        this((Key[]) new Comparable[Math.max(initCapacity, 1)], 0, d);
+    }
+
+    private MaxPQ(Key[] pq, int n, int d) {
+        if (d < 2) {
+            throw new IllegalArgumentException("arity must be at least 2");
+        }
+        this.pq = pq;
+        this.n = n;
+        this.d = d;
+    }
 
-    public MaxPQ(int maxN) {
-        pq = (Key[]) new Comparable[maxN + 1];
+    public static <Key extends Comparable<Key>> MaxPQ<Key> heapify(Key[] keys) {
+        return heapify(keys, keys.length, DEFAULT_ARITY);
+    }
+
+    public static <Key extends Comparable<Key>> MaxPQ<Key> heapify(Key[] keys, int n, int d) {
+        // Heap-orders keys[0..n-1] in O(n) and returns a queue that keeps
+        // using keys as its array, without a copy, until it has to resize.
+        if (n < 0 || n > keys.length) {
+            throw new IllegalArgumentException("n out of range: " + n);
+        }
+        MaxPQ<Key> q = new MaxPQ<Key>(keys, n, d);
+        HelperHeap.heapify(keys, 0, n, d);
+        return q;
     }
 
     public boolean isEmpty() {
@@ -15,16 +56,47 @@ public class MaxPQ<Key extends Comparable<Key>> {
         return n;
     }
 
+    public Key max() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Priority queue underflow");
+        }
+        return pq[0];
+    }
+
     public void insert(Key v) {
-        pq[++n] = v;
-        HelperHeap.swim(n);
+        if (n == pq.length) {
+            resize(Math.max(1, 2 * pq.length));         // heapify may hand over an empty array
+        }
+        pq[n] = v;
+        HelperHeap.swim(pq, 0, n++, d);
     }
 
     public Key delMax() {
-        Key max = pq[1];
-        HelperHeap.exch(1, n--);
-        pq[n + 1] = null;
-        HelperHeap.sink(1);
+        if (isEmpty()) {
+            throw new NoSuchElementException("Priority queue underflow");
+        }
+        Key max = pq[0];
+        pq[0] = pq[--n];
+        pq[n] = null;                                   // to avoid loitering
+        HelperHeap.sink(pq, 0, 0, n, d);
+        if (n > 0 && n == pq.length / 4) {
+            resize(pq.length / 2);
+        }
         return max;
     }
+
+    public Key replaceMax(Key v) {
+        // delMax() then insert(v) with a single sink.
+        Key max = max();
+        pq[0] = v;
+        HelperHeap.sink(pq, 0, 0, n, d);
+        return max;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        Key[] temp = (Key[]) new Comparable[capacity];
+        System.arraycopy(pq, 0, temp, 0, n);
+        pq = temp;
+    }
 }
\ No newline at end of file
@@ -1,3 +1,5 @@
+import java.util.Comparator;
+
 public class Merge {
 
     public static Comparable[] merge(Comparable[] a, int lo, int mid, int hi) {
@@ -8,6 +10,113 @@ public class Merge {
         for (int k = lo; k <= hi; k++) {
             aux[k] = a[k];
         }
+        if (SortStats.ENABLED) SortStats.auxWrites(hi - lo + 1);
+        for (int k = lo; k <= hi; k++) {
+            if (i > mid) {
+                a[k] = aux[j++];
+            } else if (j > hi) {
+                a[k] = aux[i++];
+            } else if (Helper.less(aux[j], aux[i])) {
+                a[k] = aux[j++];
+            } else {
+                a[k] = aux[i++];
+            }
+        }
+        return a;
+    }
+
+    public static Comparable[] merge(Comparable[] a, Comparable[] aux, int lo, int mid, int hi) {
+        // Same as above, but with a caller-supplied aux[] so no array is allocated per merge.
+        for (int k = lo; k <= hi; k++) {
+            aux[k] = a[k];
+        }
+        if (SortStats.ENABLED) SortStats.auxWrites(hi - lo + 1);
+        int i = lo;
+        int j = mid + 1;
+        for (int k = lo; k <= hi; k++) {
+            if (i > mid) {
+                a[k] = aux[j++];
+            } else if (j > hi) {
+                a[k] = aux[i++];
+            } else if (Helper.less(aux[j], aux[i])) {
+                a[k] = aux[j++];
+            } else {
+                a[k] = aux[i++];
+            }
+        }
+        return a;
+    }
+
+    public static <T> T[] merge(T[] a, T[] aux, int lo, int mid, int hi, Comparator<? super T> c) {
+        for (int k = lo; k <= hi; k++) {
+            aux[k] = a[k];
+        }
+        if (SortStats.ENABLED) SortStats.auxWrites(hi - lo + 1);
+        int i = lo;
+        int j = mid + 1;
+        for (int k = lo; k <= hi; k++) {
+            if (i > mid) {
+                a[k] = aux[j++];
+            } else if (j > hi) {
+                a[k] = aux[i++];
+            } else if (Helper.less(c, aux[j], aux[i])) {
+                a[k] = aux[j++];
+            } else {
+                a[k] = aux[i++];
+            }
+        }
+        return a;
+    }
+
+    public static int[] merge(int[] a, int[] aux, int lo, int mid, int hi) {
+        for (int k = lo; k <= hi; k++) {
+            aux[k] = a[k];
+        }
+        if (SortStats.ENABLED) SortStats.auxWrites(hi - lo + 1);
+        int i = lo;
+        int j = mid + 1;
+        for (int k = lo; k <= hi; k++) {
+            if (i > mid) {
+                a[k] = aux[j++];
+            } else if (j > hi) {
+                a[k] = aux[i++];
+            } else if (Helper.less(aux[j], aux[i])) {
+                a[k] = aux[j++];
+            } else {
+                a[k] = aux[i++];
+            }
+        }
+        return a;
+    }
+
+    public static long[] merge(long[] a, long[] aux, int lo, int mid, int hi) {
+        for (int k = lo; k <= hi; k++) {
+            aux[k] = a[k];
+        }
+        if (SortStats.ENABLED) SortStats.auxWrites(hi - lo + 1);
+        int i = lo;
+        int j = mid + 1;
+        for (int k = lo; k <= hi; k++) {
+            if (i > mid) {
+                a[k] = aux[j++];
+            } else if (j > hi) {
+                a[k] = aux[i++];
+            } else if (Helper.less(aux[j], aux[i])) {
+                a[k] = aux[j++];
+            } else {
+                a[k] = aux[i++];
+            }
+        }
+        return a;
+    }
+
+    public static double[] merge(double[] a, double[] aux, int lo, int mid, int hi) {
+        for (int k = lo; k <= hi; k++) {
+            aux[k] = a[k];
+        }
+        if (SortStats.ENABLED) SortStats.auxWrites(hi - lo + 1);
+        int i = lo;
+        int j = mid + 1;
         for (int k = lo; k <= hi; k++) {
             if (i > mid) {
                 a[k] = aux[j++];
@@ -1,3 +1,7 @@
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 public class MergeSort {
 
     private static Comparable[] aux;
@@ -17,7 +21,141 @@ public class MergeSort {
         int mid = lo + (hi - lo) / 2;
         sort(a, lo, mid);
         sort(a, mid + 1, hi);
-        Merge.merge(a, lo, mid, hi);
+        Merge.merge(a, aux, lo, mid, hi);
+        return a;
+    }
+
+    public static int[] sort(int[] a) {
+
+        int[] aux = new int[a.length];
+        sort(a, aux, 0, a.length - 1);
+        return a;
+    }
+
+    private static void sort(int[] a, int[] aux, int lo, int hi) {
+
+        if (hi <= lo) {
+            return;
+        }
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        Merge.merge(a, aux, lo, mid, hi);
+    }
+
+    public static long[] sort(long[] a) {
+
+        long[] aux = new long[a.length];
+        sort(a, aux, 0, a.length - 1);
         return a;
     }
+
+    private static void sort(long[] a, long[] aux, int lo, int hi) {
+
+        if (hi <= lo) {
+            return;
+        }
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        Merge.merge(a, aux, lo, mid, hi);
+    }
+
+    public static double[] sort(double[] a) {
+
+        double[] aux = new double[a.length];
+        sort(a, aux, 0, a.length - 1);
+        return a;
+    }
+
+    private static void sort(double[] a, double[] aux, int lo, int hi) {
+
+        if (hi <= lo) {
+            return;
+        }
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        Merge.merge(a, aux, lo, mid, hi);
+    }
+
+    public static <T> T[] sort(T[] a, Comparator<? super T> c) {
+
+        T[] aux = a.clone();
+        sort(a, aux, 0, a.length - 1, c);
+        return a;
+    }
+
+    private static <T> void sort(T[] a, T[] aux, int lo, int hi, Comparator<? super T> c) {
+
+        if (hi <= lo) {
+            return;
+        }
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid, c);
+        sort(a, aux, mid + 1, hi, c);
+        Merge.merge(a, aux, lo, mid, hi, c);
+    }
+
+    public static <T> T[] sortByInt(T[] a, ToIntFunction<? super T> key) {
+        // Stable sort by an int key, calling key once per item. Key and index
+        // are packed into one long (key in the high half, so signed order is
+        // kept, index in the low half, so equal keys stay in input order) and
+        // the longs are sorted; comparisons never touch the items.
+        int n = a.length;
+        long[] packed = new long[n];
+        for (int i = 0; i < n; i++) {
+            packed[i] = ((long) key.applyAsInt(a[i]) << 32) | i;
+        }
+        sort(packed);
+        T[] copy = a.clone();
+        for (int i = 0; i < n; i++) {
+            a[i] = copy[(int) packed[i]];
+        }
+        return a;
+    }
+
+    public static <T> T[] sortByLong(T[] a, ToLongFunction<? super T> key) {
+        // Stable sort by a long key. The keys do not leave room for the index,
+        // so keys[] and the index permutation idx[] are merged side by side.
+        int n = a.length;
+        long[] keys = new long[n];
+        int[] idx = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = key.applyAsLong(a[i]);
+            idx[i] = i;
+        }
+        sort(keys, idx, new long[n], new int[n], 0, n - 1);
+        T[] copy = a.clone();
+        for (int i = 0; i < n; i++) {
+            a[i] = copy[idx[i]];
+        }
+        return a;
+    }
+
+    private static void sort(long[] keys, int[] idx, long[] auxKeys, int[] auxIdx, int lo, int hi) {
+
+        if (hi <= lo) {
+            return;
+        }
+        int mid = lo + (hi - lo) / 2;
+        sort(keys, idx, auxKeys, auxIdx, lo, mid);
+        sort(keys, idx, auxKeys, auxIdx, mid + 1, hi);
+        if (!Helper.less(keys[mid + 1], keys[mid])) {
+            return;                                     // already in order
+        }
+        System.arraycopy(keys, lo, auxKeys, lo, hi - lo + 1);
+        System.arraycopy(idx, lo, auxIdx, lo, hi - lo + 1);
+        int i = lo;
+        int j = mid + 1;
+        for (int k = lo; k <= hi; k++) {
+            if (i > mid || j <= hi && Helper.less(auxKeys[j], auxKeys[i])) {
+                keys[k] = auxKeys[j];
+                idx[k] = auxIdx[j++];
+            } else {
+                keys[k] = auxKeys[i];
+                idx[k] = auxIdx[i++];
+            }
+        }
+    }
 }
\ No newline at end of file
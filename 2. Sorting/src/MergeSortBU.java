@@ -1,5 +1,10 @@
+import java.util.Arrays;
+import java.util.Comparator;
+
 public class MergeSortBU {
 
+    private static final int RUN = 16;                  // k-way sorts start from insertion-sorted runs of this length
+
     private static Comparable[] aux;
 
     public static Comparable[] sort(Comparable[] a) {
@@ -7,9 +12,208 @@ public class MergeSortBU {
         aux = new Comparable[n];
         for (int len = 1; len < n; len *= 2) {
             for (int lo = 0; lo < n - len; lo += len + len) {
-                Merge.merge(a, lo, lo + len - 1, Math.min(lo + len + len - 1, n - 1));
+                Merge.merge(a, aux, lo, lo + len - 1, Math.min(lo + len + len - 1, n - 1));
+            }
+        }
+        return a;
+    }
+
+    public static <T> T[] sort(T[] a, Comparator<? super T> c) {
+        int n = a.length;
+        T[] aux = a.clone();
+        for (int len = 1; len < n; len *= 2) {
+            for (int lo = 0; lo < n - len; lo += len + len) {
+                Merge.merge(a, aux, lo, lo + len - 1, Math.min(lo + len + len - 1, n - 1), c);
             }
         }
         return a;
     }
+
+    public static int[] sort(int[] a) {
+        int n = a.length;
+        int[] aux = new int[n];
+        for (int len = 1; len < n; len *= 2) {
+            for (int lo = 0; lo < n - len; lo += len + len) {
+                Merge.merge(a, aux, lo, lo + len - 1, Math.min(lo + len + len - 1, n - 1));
+            }
+        }
+        return a;
+    }
+
+    public static long[] sort(long[] a) {
+        int n = a.length;
+        long[] aux = new long[n];
+        for (int len = 1; len < n; len *= 2) {
+            for (int lo = 0; lo < n - len; lo += len + len) {
+                Merge.merge(a, aux, lo, lo + len - 1, Math.min(lo + len + len - 1, n - 1));
+            }
+        }
+        return a;
+    }
+
+    public static double[] sort(double[] a) {
+        int n = a.length;
+        double[] aux = new double[n];
+        for (int len = 1; len < n; len *= 2) {
+            for (int lo = 0; lo < n - len; lo += len + len) {
+                Merge.merge(a, aux, lo, lo + len - 1, Math.min(lo + len + len - 1, n - 1));
+            }
+        }
+        return a;
+    }
+
+    public static Comparable[] sort(Comparable[] a, int k) {
+        // Bottom-up mergesort with k-way merges: insertion-sorted runs of RUN
+        // keys, then passes that each merge k runs at a time through a loser
+        // tree, so the array streams through memory log_k(n / RUN) times
+        // instead of log_2(n). The passes ping-pong between a and one aux
+        // array instead of copying into aux before every merge; if the last
+        // pass ends in aux the result is copied back once.
+        if (k < 2) {
+            throw new IllegalArgumentException("fan-in must be at least 2: " + k);
+        }
+        int n = a.length;
+        for (int lo = 0; lo < n; lo += RUN) {
+            InsertionSort.sort(a, lo, Math.min(lo + RUN, n) - 1);
+        }
+        Comparable[] src = a;
+        Comparable[] dst = new Comparable[n];
+        int[] tree = new int[k];
+        int[] pos = new int[k];
+        int[] end = new int[k];
+        Comparable[] head = new Comparable[k];
+        for (long len = RUN; len < n; len *= k) {
+            for (long lo = 0; lo < n; lo += len * k) {
+                int m = (int) Math.min(k, (n - lo + len - 1) / len);
+                for (int i = 0; i < m; i++) {
+                    pos[i] = (int) (lo + i * len);
+                    end[i] = (int) Math.min(lo + (i + 1) * len, n);
+                }
+                merge(src, dst, (int) lo, m, tree, pos, end, head);
+            }
+            if (SortStats.ENABLED && dst != a) SortStats.auxWrites(n);
+            Comparable[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != a) {
+            System.arraycopy(src, 0, a, 0, n);
+            if (SortStats.ENABLED) SortStats.auxWrites(n);
+        }
+        return a;
+    }
+
+    private static void merge(Comparable[] src, Comparable[] dst, int out, int m,
+                              int[] tree, int[] pos, int[] end, Comparable[] head) {
+        // Merge the m runs src[pos[i]..end[i]) into dst[out..] through a loser
+        // tree: tree[1..m-1] hold the loser of the match at each node and
+        // tree[0] the overall winner, so taking the winner replays only its
+        // leaf-to-root path. head[i] is run i's next key, null once it is empty.
+        if (m == 1) {
+            System.arraycopy(src, pos[0], dst, out, end[0] - pos[0]);
+            return;
+        }
+        for (int i = 0; i < m; i++) {
+            head[i] = src[pos[i]++];
+        }
+        Arrays.fill(tree, 0, m, m);                     // m is a virtual run that beats every run
+        for (int i = m - 1; i >= 0; i--) {
+            replay(head, tree, m, i);
+        }
+        for (int w = tree[0]; head[w] != null; w = tree[0]) {
+            dst[out++] = head[w];
+            head[w] = pos[w] < end[w] ? src[pos[w]++] : null;
+            replay(head, tree, m, w);
+        }
+    }
+
+    private static void replay(Comparable[] head, int[] tree, int m, int s) {
+        for (int t = (s + m) >> 1; t > 0; t >>= 1) {
+            if (beats(head, m, tree[t], s)) {
+                int loser = s;
+                s = tree[t];
+                tree[t] = loser;
+            }
+        }
+        tree[0] = s;
+    }
+
+    private static boolean beats(Comparable[] head, int m, int i, int j) {
+        // Does run i's head come first? Empty runs come last, and ties go to
+        // the lower run, which keeps the sort stable.
+        if (j == m) return false;
+        if (i == m) return true;
+        if (head[j] == null) return head[i] != null || i < j;
+        if (head[i] == null) return false;
+        int cmp = Helper.compare(head[i], head[j]);
+        return cmp < 0 || cmp == 0 && i < j;
+    }
+
+    public static int[] sort(int[] a, int k) {
+        // Same as above for int keys.
+        if (k < 2) {
+            throw new IllegalArgumentException("fan-in must be at least 2: " + k);
+        }
+        int n = a.length;
+        for (int lo = 0; lo < n; lo += RUN) {
+            InsertionSort.sort(a, lo, Math.min(lo + RUN, n) - 1);
+        }
+        int[] src = a;
+        int[] dst = new int[n];
+        long[] tree = new long[k];
+        int[] pos = new int[k];
+        int[] end = new int[k];
+        for (long len = RUN; len < n; len *= k) {
+            for (long lo = 0; lo < n; lo += len * k) {
+                int m = (int) Math.min(k, (n - lo + len - 1) / len);
+                for (int i = 0; i < m; i++) {
+                    pos[i] = (int) (lo + i * len);
+                    end[i] = (int) Math.min(lo + (i + 1) * len, n);
+                }
+                merge(src, dst, (int) lo, m, tree, pos, end);
+            }
+            if (SortStats.ENABLED && dst != a) SortStats.auxWrites(n);
+            int[] t = src;
+            src = dst;
+            dst = t;
+        }
+        if (src != a) {
+            System.arraycopy(src, 0, a, 0, n);
+            if (SortStats.ENABLED) SortStats.auxWrites(n);
+        }
+        return a;
+    }
+
+    private static void merge(int[] src, int[] dst, int out, int m, long[] tree, int[] pos, int[] end) {
+        // The tree holds keys rather than run numbers: each run's next key is
+        // packed with the run number (key in the high half, run in the low
+        // half), so a single long compare orders by key and then by run, and
+        // the winner says which run to advance. An empty run's key is
+        // Long.MAX_VALUE and the virtual run's is Long.MIN_VALUE.
+        if (m == 1) {
+            System.arraycopy(src, pos[0], dst, out, end[0] - pos[0]);
+            return;
+        }
+        Arrays.fill(tree, 0, m, Long.MIN_VALUE);
+        for (int i = m - 1; i >= 0; i--) {
+            replay(tree, m, i, (long) src[pos[i]++] << 32 | i);
+        }
+        for (long w = tree[0]; w != Long.MAX_VALUE; w = tree[0]) {
+            int r = (int) w;
+            dst[out++] = (int) (w >> 32);
+            replay(tree, m, r, pos[r] < end[r] ? (long) src[pos[r]++] << 32 | r : Long.MAX_VALUE);
+        }
+    }
+
+    private static void replay(long[] tree, int m, int s, long key) {
+        // Run s has a new head key: play it from its leaf to the root.
+        for (int t = (s + m) >> 1; t > 0; t >>= 1) {
+            long loser = tree[t];
+            if (loser < key) {
+                tree[t] = key;
+                key = loser;
+            }
+        }
+        tree[0] = key;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+import java.util.Random;
+
+public class MergeSortBUBenchmark {
+
+    // Bottom-up mergesort of n random keys, 2-way (copying into aux at every
+    // merge) against k-way loser-tree merges with ping-pong buffers, for int[]
+    // and Integer[]. Prints the number of passes over the array and the best
+    // of a few trials in milliseconds.
+    private static final int[] FAN_IN = {2, 4, 8, 16, 32};
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int trials = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Random random = new Random(42);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt();
+        }
+
+        System.out.printf("%-12s %8s %10s %10s%n", "n=" + n, "passes", "int[]", "Integer[]");
+        double[] best = {Double.MAX_VALUE, Double.MAX_VALUE};
+        for (int t = 0; t < trials; t++) {
+            best = time(keys, 0, best);
+        }
+        System.out.printf("%-12s %8d %10.1f %10.1f%n", "classic", passes(n, 1, 2), best[0], best[1]);
+        for (int k : FAN_IN) {
+            best = new double[]{Double.MAX_VALUE, Double.MAX_VALUE};
+            for (int t = 0; t < trials; t++) {
+                best = time(keys, k, best);
+            }
+            System.out.printf("%-12s %8d %10.1f %10.1f%n", k + "-way", passes(n, 16, k), best[0], best[1]);
+        }
+    }
+
+    private static double[] time(int[] keys, int k, double[] best) {
+        // k = 0 means the classic 2-way sort(a).
+        int[] a = keys.clone();
+        Integer[] b = new Integer[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            b[i] = keys[i];
+        }
+        long start = System.nanoTime();
+        if (k == 0) MergeSortBU.sort(a);
+        else MergeSortBU.sort(a, k);
+        double intMs = (System.nanoTime() - start) / 1e6;
+        start = System.nanoTime();
+        if (k == 0) MergeSortBU.sort((Comparable[]) b);
+        else MergeSortBU.sort((Comparable[]) b, k);
+        double objMs = (System.nanoTime() - start) / 1e6;
+        if (!Helper.isSorted(a) || !Helper.isSorted(b)) {
+            throw new AssertionError(k + "-way did not sort");
+        }
+        return new double[]{Math.min(best[0], intMs), Math.min(best[1], objMs)};
+    }
+
+    private static int passes(int n, int run, int k) {
+        int passes = 0;
+        for (long len = run; len < n; len *= k) {
+            passes++;
+        }
+        return passes;
+    }
+}
\ No newline at end of file
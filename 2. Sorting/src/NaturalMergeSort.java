@@ -0,0 +1,211 @@
+import java.util.Comparator;
+
+public class NaturalMergeSort<T> {
+
+    // Adaptive, stable natural mergesort.
+    //
+    // The array is cut, left to right, into maximal runs that are already
+    // nondecreasing, or strictly decreasing (those are reversed in place;
+    // strictly, so equal keys never trade places). A run shorter than minRun
+    // is padded out to minRun keys with binary insertion sort. Run boundaries
+    // go on a stack, and after every push the top runs are merged until, for
+    // the top four runs X, Y, Z, W (W on top),
+    //     Z > W,  Y > Z + W  and  X > Y + Z.
+    // Run lengths then grow at least like Fibonacci numbers from the top
+    // down, so the stack stays shallow and merges are between runs of
+    // similar length. This is the rule Tim Peters described for Python's
+    // list sort, checked four deep as de Gouw et al. showed it must be.
+    //
+    // A merge first skips, by binary search, the head of the left run and
+    // the tail of the right run that are already in place, then copies the
+    // shorter of what is left to aux and merges toward the other end.
+    // Sorted or reversed input costs n - 1 compares and no merges.
+    private static final int MIN_RUN = 32;             // runs are padded to between MIN_RUN/2 and MIN_RUN keys
+    private static final int MAX_RUNS = 64;            // far more than the invariant allows for any int length
+
+    private final T[] a;
+    private final Comparator<? super T> c;
+    private T[] aux;                                    // allocated on the first merge
+    private final int[] bound = new int[MAX_RUNS + 1];  // run i is a[bound[i]..bound[i + 1])
+    private int runs = 0;
+
+    private NaturalMergeSort(T[] a, Comparator<? super T> c) {
+        this.a = a;
+        this.c = c;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static Comparable[] sort(Comparable[] a) {
+        return sort(a, (Comparator<Comparable>) Comparable::compareTo);
+    }
+
+    public static <T> T[] sort(T[] a, Comparator<? super T> c) {
+        new NaturalMergeSort<T>(a, c).sort();
+        return a;
+    }
+
+    private void sort() {
+        int n = a.length;
+        int minRun = minRun(n);
+        for (int lo = 0; lo < n; ) {
+            int hi = run(lo);
+            if (hi - lo < minRun) {
+                int end = Math.min(lo + minRun, n);
+                insertionSort(lo, hi, end);
+                hi = end;
+            }
+            bound[runs++] = lo;
+            bound[runs] = hi;
+            collapse();
+            lo = hi;
+        }
+        while (runs > 1) {
+            mergeRuns(runs - 2);
+        }
+    }
+
+    private static int minRun(int n) {
+        // Halve n, rounding up, until it is below MIN_RUN. Then n splits into
+        // a power of two runs of about that length, or slightly fewer, and
+        // the final merges are balanced.
+        while (n >= MIN_RUN) {
+            n = (n + 1) >>> 1;
+        }
+        return n;
+    }
+
+    private int run(int lo) {
+        // End of the run starting at lo; a strictly decreasing run is reversed.
+        int n = a.length;
+        if (lo + 1 == n) {
+            return n;
+        }
+        int hi = lo + 2;
+        if (Helper.less(c, a[lo + 1], a[lo])) {
+            while (hi < n && Helper.less(c, a[hi], a[hi - 1])) {
+                hi++;
+            }
+            for (int i = lo, j = hi - 1; i < j; i++, j--) {
+                Helper.exchange(a, i, j);
+            }
+        } else {
+            while (hi < n && !Helper.less(c, a[hi], a[hi - 1])) {
+                hi++;
+            }
+        }
+        return hi;
+    }
+
+    private void insertionSort(int lo, int sorted, int hi) {
+        // a[lo..sorted) is in order; insert each of a[sorted..hi) after the
+        // keys equal to it, found by binary search.
+        for (int i = sorted; i < hi; i++) {
+            T key = a[i];
+            int at = upperBound(key, lo, i);
+            System.arraycopy(a, at, a, at + 1, i - at);
+            a[at] = key;
+        }
+    }
+
+    private int length(int i) {
+        return bound[i + 1] - bound[i];
+    }
+
+    private void collapse() {
+        while (runs > 1) {
+            int w = runs - 1;
+            if (runs > 2 && length(w - 2) <= length(w - 1) + length(w)
+                    || runs > 3 && length(w - 3) <= length(w - 2) + length(w - 1)) {
+                // Merge the middle run Z into its shorter neighbour.
+                mergeRuns(length(w - 2) < length(w) ? w - 2 : w - 1);
+            } else if (length(w - 1) <= length(w)) {
+                mergeRuns(w - 1);
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void mergeRuns(int i) {
+        // Merge runs i and i + 1 into one.
+        int lo = bound[i];
+        int mid = bound[i + 1];
+        int hi = bound[i + 2];
+        System.arraycopy(bound, i + 2, bound, i + 1, runs - i - 1);
+        runs--;
+
+        lo = upperBound(a[mid], lo, mid);               // left keys <= the first right key stay put
+        if (lo == mid) {
+            return;
+        }
+        hi = lowerBound(a[mid - 1], mid, hi);           // right keys >= the last left key stay put
+        if (mid - lo <= hi - mid) {
+            mergeForward(lo, mid, hi);
+        } else {
+            mergeBackward(lo, mid, hi);
+        }
+    }
+
+    private void mergeForward(int lo, int mid, int hi) {
+        // Left run to aux, then fill a from the front. Whatever is left of
+        // the right run at the end is already in place.
+        int n1 = mid - lo;
+        T[] aux = aux(n1);
+        System.arraycopy(a, lo, aux, 0, n1);
+        if (SortStats.ENABLED) SortStats.auxWrites(n1);
+        int i = 0;
+        int j = mid;
+        int k = lo;
+        while (i < n1 && j < hi) {
+            a[k++] = Helper.less(c, a[j], aux[i]) ? a[j++] : aux[i++];
+        }
+        System.arraycopy(aux, i, a, k, n1 - i);
+        if (SortStats.ENABLED) SortStats.auxWrites(n1 - i);
+    }
+
+    private void mergeBackward(int lo, int mid, int hi) {
+        // Right run to aux, then fill a from the back; ties go to the right
+        // run, which keeps equal keys in order.
+        int n2 = hi - mid;
+        T[] aux = aux(n2);
+        System.arraycopy(a, mid, aux, 0, n2);
+        if (SortStats.ENABLED) SortStats.auxWrites(n2);
+        int i = mid - 1;
+        int j = n2 - 1;
+        int k = hi - 1;
+        while (i >= lo && j >= 0) {
+            a[k--] = Helper.less(c, aux[j], a[i]) ? a[i--] : aux[j--];
+        }
+        System.arraycopy(aux, 0, a, lo, j + 1);
+        if (SortStats.ENABLED) SortStats.auxWrites(j + 1);
+    }
+
+    private int upperBound(T key, int lo, int hi) {
+        // First index in [lo, hi) whose key is greater than key.
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Helper.less(c, key, a[mid])) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    private int lowerBound(T key, int lo, int hi) {
+        // First index in [lo, hi) whose key is not less than key.
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (Helper.less(c, a[mid], key)) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T[] aux(int n) {
+        // Merges buffer the shorter run, so aux never needs more than n / 2.
+        if (aux == null || aux.length < n) {
+            aux = (T[]) new Object[Math.max(n, Math.min(2 * n, a.length / 2))];
+        }
+        return aux;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,314 @@
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelMergeSort {
+
+    // Top-down mergesort on a ForkJoinPool. Both halves are sorted in
+    // parallel, and the merge itself is parallel: the larger run is split at
+    // its median, the median's position in the other run is found by binary
+    // search, and the two sub-merges run as separate tasks. Ranges below the
+    // cutoff are sorted and merged sequentially. One aux[] is shared by all
+    // tasks since they touch disjoint ranges of it.
+    public static final int DEFAULT_CUTOFF = 1 << 13;
+
+    public static Comparable[] sort(Comparable[] a) {
+        return sort(a, ForkJoinPool.commonPool(), DEFAULT_CUTOFF);
+    }
+
+    public static Comparable[] sort(Comparable[] a, ForkJoinPool pool, int cutoff) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive");
+        Comparable[] aux = new Comparable[a.length];
+        pool.invoke(new SortTask(a, aux, 0, a.length - 1, cutoff));
+        return a;
+    }
+
+    private static class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Comparable[] a;
+        private final Comparable[] aux;
+        private final int lo;
+        private final int hi;
+        private final int cutoff;
+
+        SortTask(Comparable[] a, Comparable[] aux, int lo, int hi, int cutoff) {
+            this.a = a;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.cutoff = cutoff;
+        }
+
+        protected void compute() {
+            if (hi - lo < cutoff) {
+                sort(a, aux, lo, hi);
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            invokeAll(new SortTask(a, aux, lo, mid, cutoff), new SortTask(a, aux, mid + 1, hi, cutoff));
+            if (!Helper.less(a[mid + 1], a[mid])) {
+                return;                                 // already in order
+            }
+            System.arraycopy(a, lo, aux, lo, hi - lo + 1);
+            new MergeTask(aux, lo, mid, mid + 1, hi, a, lo, cutoff).compute();
+        }
+    }
+
+    private static void sort(Comparable[] a, Comparable[] aux, int lo, int hi) {
+        // Sequential top-down mergesort on a[lo..hi].
+        if (hi <= lo) {
+            return;
+        }
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid);
+        sort(a, aux, mid + 1, hi);
+        Merge.merge(a, aux, lo, mid, hi);
+    }
+
+    private static class MergeTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        // Merge src[lo1..hi1] and src[lo2..hi2] into dst starting at k.
+        private final Comparable[] src;
+        private final int lo1, hi1, lo2, hi2;
+        private final Comparable[] dst;
+        private final int k;
+        private final int cutoff;
+
+        MergeTask(Comparable[] src, int lo1, int hi1, int lo2, int hi2, Comparable[] dst, int k, int cutoff) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.k = k;
+            this.cutoff = cutoff;
+        }
+
+        protected void compute() {
+            int n1 = hi1 - lo1 + 1;
+            int n2 = hi2 - lo2 + 1;
+            if (n1 + n2 <= cutoff || n1 <= 1 || n2 <= 1) {
+                // With a single key the split below can leave one task the
+                // same as this one, so small cutoffs would recurse forever.
+                merge(src, lo1, hi1, lo2, hi2, dst, k);
+                return;
+            }
+            int mid1, mid2;
+            if (n1 >= n2) {
+                // Split run 1 at its median; run-2 keys equal to it go after it (stability).
+                mid1 = lo1 + n1 / 2;
+                mid2 = lowerBound(src, lo2, hi2, src[mid1]);
+            } else {
+                // Split run 2 at its median; run-1 keys equal to it go before it.
+                mid2 = lo2 + n2 / 2;
+                mid1 = upperBound(src, lo1, hi1, src[mid2]);
+            }
+            int split = k + (mid1 - lo1) + (mid2 - lo2);
+            invokeAll(new MergeTask(src, lo1, mid1 - 1, lo2, mid2 - 1, dst, k, cutoff),
+                    new MergeTask(src, mid1, hi1, mid2, hi2, dst, split, cutoff));
+        }
+    }
+
+    private static int lowerBound(Comparable[] a, int lo, int hi, Comparable key) {
+        // First index in a[lo..hi] whose key is not less than key, or hi + 1.
+        hi++;
+        while (lo < hi) {
+            int mid = lo + (hi - lo) / 2;
+            if (Helper.less(a[mid], key)) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static int upperBound(Comparable[] a, int lo, int hi, Comparable key) {
+        // First index in a[lo..hi] whose key is greater than key, or hi + 1.
+        hi++;
+        while (lo < hi) {
+            int mid = lo + (hi - lo) / 2;
+            if (Helper.less(key, a[mid])) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    private static void merge(Comparable[] src, int lo1, int hi1, int lo2, int hi2, Comparable[] dst, int k) {
+        int i = lo1;
+        int j = lo2;
+        while (i <= hi1 && j <= hi2) {
+            if (Helper.less(src[j], src[i])) dst[k++] = src[j++];
+            else dst[k++] = src[i++];
+        }
+        while (i <= hi1) dst[k++] = src[i++];
+        while (j <= hi2) dst[k++] = src[j++];
+    }
+
+    public static <T> T[] sort(T[] a, Comparator<? super T> c) {
+        return sort(a, ForkJoinPool.commonPool(), DEFAULT_CUTOFF, c);
+    }
+
+    public static <T> T[] sort(T[] a, ForkJoinPool pool, int cutoff, Comparator<? super T> c) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive");
+        T[] aux = a.clone();
+        pool.invoke(new ComparatorSortTask<T>(a, aux, 0, a.length - 1, cutoff, c));
+        return a;
+    }
+
+    private static class ComparatorSortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        // SortTask with the order given by c.
+        private final T[] a;
+        private final T[] aux;
+        private final int lo;
+        private final int hi;
+        private final int cutoff;
+        private final Comparator<? super T> c;
+
+        ComparatorSortTask(T[] a, T[] aux, int lo, int hi, int cutoff, Comparator<? super T> c) {
+            this.a = a;
+            this.aux = aux;
+            this.lo = lo;
+            this.hi = hi;
+            this.cutoff = cutoff;
+            this.c = c;
+        }
+
+        protected void compute() {
+            if (hi - lo < cutoff) {
+                sort(a, aux, lo, hi, c);
+                return;
+            }
+            int mid = lo + (hi - lo) / 2;
+            invokeAll(new ComparatorSortTask<T>(a, aux, lo, mid, cutoff, c),
+                    new ComparatorSortTask<T>(a, aux, mid + 1, hi, cutoff, c));
+            if (!Helper.less(c, a[mid + 1], a[mid])) {
+                return;                                 // already in order
+            }
+            System.arraycopy(a, lo, aux, lo, hi - lo + 1);
+            new ComparatorMergeTask<T>(aux, lo, mid, mid + 1, hi, a, lo, cutoff, c).compute();
+        }
+    }
+
+    private static <T> void sort(T[] a, T[] aux, int lo, int hi, Comparator<? super T> c) {
+        if (hi <= lo) {
+            return;
+        }
+        int mid = lo + (hi - lo) / 2;
+        sort(a, aux, lo, mid, c);
+        sort(a, aux, mid + 1, hi, c);
+        Merge.merge(a, aux, lo, mid, hi, c);
+    }
+
+    private static class ComparatorMergeTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        // MergeTask with the order given by c.
+        private final T[] src;
+        private final int lo1, hi1, lo2, hi2;
+        private final T[] dst;
+        private final int k;
+        private final int cutoff;
+        private final Comparator<? super T> c;
+
+        ComparatorMergeTask(T[] src, int lo1, int hi1, int lo2, int hi2, T[] dst, int k, int cutoff,
+                            Comparator<? super T> c) {
+            this.src = src;
+            this.lo1 = lo1;
+            this.hi1 = hi1;
+            this.lo2 = lo2;
+            this.hi2 = hi2;
+            this.dst = dst;
+            this.k = k;
+            this.cutoff = cutoff;
+            this.c = c;
+        }
+
+        protected void compute() {
+            int n1 = hi1 - lo1 + 1;
+            int n2 = hi2 - lo2 + 1;
+            if (n1 + n2 <= cutoff || n1 <= 1 || n2 <= 1) {
+                merge(src, lo1, hi1, lo2, hi2, dst, k, c);
+                return;
+            }
+            int mid1, mid2;
+            if (n1 >= n2) {
+                mid1 = lo1 + n1 / 2;
+                mid2 = lowerBound(src, lo2, hi2, src[mid1], c);
+            } else {
+                mid2 = lo2 + n2 / 2;
+                mid1 = upperBound(src, lo1, hi1, src[mid2], c);
+            }
+            int split = k + (mid1 - lo1) + (mid2 - lo2);
+            invokeAll(new ComparatorMergeTask<T>(src, lo1, mid1 - 1, lo2, mid2 - 1, dst, k, cutoff, c),
+                    new ComparatorMergeTask<T>(src, mid1, hi1, mid2, hi2, dst, split, cutoff, c));
+        }
+    }
+
+    private static <T> int lowerBound(T[] a, int lo, int hi, T key, Comparator<? super T> c) {
+        hi++;
+        while (lo < hi) {
+            int mid = lo + (hi - lo) / 2;
+            if (Helper.less(c, a[mid], key)) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static <T> int upperBound(T[] a, int lo, int hi, T key, Comparator<? super T> c) {
+        hi++;
+        while (lo < hi) {
+            int mid = lo + (hi - lo) / 2;
+            if (Helper.less(c, key, a[mid])) hi = mid;
+            else lo = mid + 1;
+        }
+        return lo;
+    }
+
+    private static <T> void merge(T[] src, int lo1, int hi1, int lo2, int hi2, T[] dst, int k, Comparator<? super T> c) {
+        int i = lo1;
+        int j = lo2;
+        while (i <= hi1 && j <= hi2) {
+            if (Helper.less(c, src[j], src[i])) dst[k++] = src[j++];
+            else dst[k++] = src[i++];
+        }
+        while (i <= hi1) dst[k++] = src[i++];
+        while (j <= hi2) dst[k++] = src[j++];
+    }
+
+    public static void main(String[] args) {
+        // Scaling: sort the same keys with 1, 2, 4, ... threads up to the core count.
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int cutoff = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_CUTOFF;
+        int cores = Runtime.getRuntime().availableProcessors();
+        Random random = new Random(42);
+        Integer[] keys = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt();
+        }
+
+        double base = 0;
+        for (int p = 1; ; p = Math.min(2 * p, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(p);
+            double best = Double.MAX_VALUE;
+            for (int t = 0; t < 3; t++) {
+                Comparable[] a = keys.clone();
+                long start = System.nanoTime();
+                sort(a, pool, cutoff);
+                best = Math.min(best, (System.nanoTime() - start) / 1e6);
+                if (!Helper.isSorted(a)) throw new AssertionError("not sorted");
+            }
+            pool.shutdown();
+            if (p == 1) base = best;
+            System.out.printf("%3d threads %10.1f ms  speedup %5.2f%n", p, best, base / best);
+            if (p == cores) break;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,153 @@
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class ParallelQuickSort3Way {
+
+    // Quicksort with 3-way partitioning on a ForkJoinPool. After the
+    // partition a[lo..lt-1] < v = a[lt..gt] < a[gt+1..hi], and the two
+    // outer parts are sorted as independent tasks. Keys equal to the pivot
+    // are never touched again, which is why heavy duplicates sort fast.
+    // Ranges below the cutoff go to the sequential QuickSortPartition3Way,
+    // tiny ones to insertion sort.
+    public static final int DEFAULT_CUTOFF = 1 << 13;
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    public static Comparable[] sort(Comparable[] a) {
+        return sort(a, ForkJoinPool.commonPool(), DEFAULT_CUTOFF);
+    }
+
+    public static Comparable[] sort(Comparable[] a, ForkJoinPool pool, int cutoff) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive");
+        Helper.shuffle(a);
+        pool.invoke(new SortTask(a, 0, a.length - 1, cutoff));
+        return a;
+    }
+
+    private static class SortTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Comparable[] a;
+        private final int lo;
+        private final int hi;
+        private final int cutoff;
+
+        SortTask(Comparable[] a, int lo, int hi, int cutoff) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.cutoff = cutoff;
+        }
+
+        protected void compute() {
+            if (hi - lo < INSERTION_SORT_CUTOFF) {
+                InsertionSort.sort(a, lo, hi);
+                return;
+            }
+            if (hi - lo < cutoff) {
+                QuickSortPartition3Way.sort(a, lo, hi);
+                return;
+            }
+            int lt = lo;
+            int i = lo + 1;
+            int gt = hi;
+            Comparable v = a[lo];
+            while (i <= gt) {
+                int cmp = Helper.compare(a[i], v);
+                if (cmp < 0) {
+                    Helper.exchange(a, lt++, i++);
+                } else if (cmp > 0) {
+                    Helper.exchange(a, i, gt--);
+                } else i++;
+            }
+            invokeAll(new SortTask(a, lo, lt - 1, cutoff), new SortTask(a, gt + 1, hi, cutoff));
+        }
+    }
+
+    public static <T> T[] sort(T[] a, Comparator<? super T> c) {
+        return sort(a, ForkJoinPool.commonPool(), DEFAULT_CUTOFF, c);
+    }
+
+    public static <T> T[] sort(T[] a, ForkJoinPool pool, int cutoff, Comparator<? super T> c) {
+        if (cutoff < 1) throw new IllegalArgumentException("cutoff must be positive");
+        Helper.shuffle(a);
+        pool.invoke(new ComparatorSortTask<T>(a, 0, a.length - 1, cutoff, c));
+        return a;
+    }
+
+    private static class ComparatorSortTask<T> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        // SortTask with the order given by c.
+        private final T[] a;
+        private final int lo;
+        private final int hi;
+        private final int cutoff;
+        private final Comparator<? super T> c;
+
+        ComparatorSortTask(T[] a, int lo, int hi, int cutoff, Comparator<? super T> c) {
+            this.a = a;
+            this.lo = lo;
+            this.hi = hi;
+            this.cutoff = cutoff;
+            this.c = c;
+        }
+
+        protected void compute() {
+            if (hi - lo < INSERTION_SORT_CUTOFF) {
+                InsertionSort.sort(a, lo, hi, c);
+                return;
+            }
+            if (hi - lo < cutoff) {
+                QuickSortPartition3Way.sort(a, lo, hi, c);
+                return;
+            }
+            int lt = lo;
+            int i = lo + 1;
+            int gt = hi;
+            T v = a[lo];
+            while (i <= gt) {
+                int cmp = Helper.compare(c, a[i], v);
+                if (cmp < 0) {
+                    Helper.exchange(a, lt++, i++);
+                } else if (cmp > 0) {
+                    Helper.exchange(a, i, gt--);
+                } else i++;
+            }
+            invokeAll(new ComparatorSortTask<T>(a, lo, lt - 1, cutoff, c),
+                    new ComparatorSortTask<T>(a, gt + 1, hi, cutoff, c));
+        }
+    }
+
+    public static void main(String[] args) {
+        // Scaling on keys with many duplicates: 1, 2, 4, ... threads up to the core count.
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000000;
+        int distinct = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        int cores = Runtime.getRuntime().availableProcessors();
+        Random random = new Random(42);
+        Integer[] keys = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt(distinct);
+        }
+
+        double base = 0;
+        for (int p = 1; ; p = Math.min(2 * p, cores)) {
+            ForkJoinPool pool = new ForkJoinPool(p);
+            double best = Double.MAX_VALUE;
+            for (int t = 0; t < 3; t++) {
+                Comparable[] a = keys.clone();
+                long start = System.nanoTime();
+                sort(a, pool, DEFAULT_CUTOFF);
+                best = Math.min(best, (System.nanoTime() - start) / 1e6);
+                if (!Helper.isSorted(a)) throw new AssertionError("not sorted");
+            }
+            pool.shutdown();
+            if (p == 1) base = best;
+            System.out.printf("%3d threads %10.1f ms  speedup %5.2f%n", p, best, base / best);
+            if (p == cores) break;
+        }
+    }
+}
\ No newline at end of file
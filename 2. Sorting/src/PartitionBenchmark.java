@@ -0,0 +1,73 @@
+import java.util.Random;
+
+public class PartitionBenchmark {
+
+    // Wall time of the quicksort partitioning schemes on int[] for random,
+    // sorted and few-unique keys. Branch mispredictions cannot be read from
+    // Java; pass one scheme name as the first argument and run the JVM under
+    // `perf stat -e branches,branch-misses` to compare them one at a time.
+    private static final String[] SCHEMES = {"classic", "3way", "dualpivot", "block"};
+    private static final String[] INPUTS = {"random", "sorted", "fewunique"};
+
+    private static int[] input(String kind, int n, Random random) {
+        int[] a = new int[n];
+        for (int i = 0; i < n; i++) {
+            if (kind.equals("random")) a[i] = random.nextInt();
+            else if (kind.equals("sorted")) a[i] = i;
+            else a[i] = random.nextInt(8);
+        }
+        return a;
+    }
+
+    private static void sort(String scheme, int[] a) {
+        if (scheme.equals("classic")) {
+            Helper.shuffle(a);
+            classic(a, 0, a.length - 1);
+        } else if (scheme.equals("3way")) {
+            QuickSort.sort(a);
+        } else if (scheme.equals("dualpivot")) {
+            QuickSortDualPivot.sort(a);
+        } else {
+            QuickSortBlockPartition.sort(a);
+        }
+    }
+
+    private static void classic(int[] a, int lo, int hi) {
+        // QuickSort's 2-way recursion over QuickSortPartition.partition.
+        if (hi <= lo) {
+            return;
+        }
+        int j = QuickSortPartition.partition(a, lo, hi);
+        classic(a, lo, j - 1);
+        classic(a, j + 1, hi);
+    }
+
+    public static void main(String[] args) {
+        String[] schemes = args.length > 0 ? new String[]{args[0]} : SCHEMES;
+        int n = args.length > 1 ? Integer.parseInt(args[1]) : 10000000;
+        int trials = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        Random random = new Random(42);
+
+        System.out.printf("%-10s", "n=" + n);
+        for (String kind : INPUTS) {
+            System.out.printf(" %10s", kind);
+        }
+        System.out.println();
+        for (String scheme : schemes) {
+            System.out.printf("%-10s", scheme);
+            for (String kind : INPUTS) {
+                int[] keys = input(kind, n, random);
+                double best = Double.MAX_VALUE;
+                for (int t = 0; t < trials; t++) {
+                    int[] a = keys.clone();
+                    long start = System.nanoTime();
+                    sort(scheme, a);
+                    best = Math.min(best, (System.nanoTime() - start) / 1e6);
+                    if (!Helper.isSorted(a)) throw new AssertionError(scheme + " did not sort " + kind);
+                }
+                System.out.printf(" %10.1f", best);
+            }
+            System.out.println();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,81 @@
+import java.util.Random;
+
+public class PrimitiveSortBenchmark {
+
+    // Sort the same random keys as int[], long[], double[] and as boxed
+    // Integer[] through the Comparable path, for each algorithm, and print
+    // the best of a few trials in milliseconds.
+    private static final String[] SORTS = {"QuickSort", "MergeSort", "HeapSort", "Shellsort"};
+
+    private static void sort(String name, int[] a) {
+        if (name.equals("QuickSort")) QuickSort.sort(a);
+        else if (name.equals("MergeSort")) MergeSort.sort(a);
+        else if (name.equals("HeapSort")) HeapSort.sort(a);
+        else Shellsort.sort(a);
+    }
+
+    private static void sort(String name, long[] a) {
+        if (name.equals("QuickSort")) QuickSort.sort(a);
+        else if (name.equals("MergeSort")) MergeSort.sort(a);
+        else if (name.equals("HeapSort")) HeapSort.sort(a);
+        else Shellsort.sort(a);
+    }
+
+    private static void sort(String name, double[] a) {
+        if (name.equals("QuickSort")) QuickSort.sort(a);
+        else if (name.equals("MergeSort")) MergeSort.sort(a);
+        else if (name.equals("HeapSort")) HeapSort.sort(a);
+        else Shellsort.sort(a);
+    }
+
+    private static void sort(String name, Comparable[] a) {
+        if (name.equals("QuickSort")) QuickSort.sort(a);
+        else if (name.equals("MergeSort")) MergeSort.sort(a);
+        else if (name.equals("HeapSort")) HeapSort.sort(a);
+        else Shellsort.sort(a);
+    }
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int trials = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Random random = new Random(42);
+        int[] keys = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt();
+        }
+
+        System.out.printf("%-10s %10s %10s %10s %10s%n", "n=" + n, "int[]", "long[]", "double[]", "Integer[]");
+        for (String name : SORTS) {
+            double[] best = {Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE, Double.MAX_VALUE};
+            for (int t = 0; t < trials; t++) {
+                int[] a = keys.clone();
+                long[] b = new long[n];
+                double[] c = new double[n];
+                Integer[] d = new Integer[n];
+                for (int i = 0; i < n; i++) {
+                    b[i] = keys[i];
+                    c[i] = keys[i];
+                    d[i] = keys[i];
+                }
+
+                long start = System.nanoTime();
+                sort(name, a);
+                best[0] = Math.min(best[0], (System.nanoTime() - start) / 1e6);
+                start = System.nanoTime();
+                sort(name, b);
+                best[1] = Math.min(best[1], (System.nanoTime() - start) / 1e6);
+                start = System.nanoTime();
+                sort(name, c);
+                best[2] = Math.min(best[2], (System.nanoTime() - start) / 1e6);
+                start = System.nanoTime();
+                sort(name, d);
+                best[3] = Math.min(best[3], (System.nanoTime() - start) / 1e6);
+
+                if (!Helper.isSorted(a) || !Helper.isSorted(b) || !Helper.isSorted(c) || !Helper.isSorted(d)) {
+                    throw new AssertionError(name + " did not sort");
+                }
+            }
+            System.out.printf("%-10s %10.1f %10.1f %10.1f %10.1f%n", name, best[0], best[1], best[2], best[3]);
+        }
+    }
+}
\ No newline at end of file
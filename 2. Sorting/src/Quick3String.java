@@ -0,0 +1,44 @@
+public class Quick3String {
+
+    // 3-way string quicksort: partition on the d-th char of a pivot string
+    // into <, = and >, then sort the < and > parts on the same char and the
+    // = part on the next one. No aux array, and long common prefixes or
+    // many equal keys cost little.
+    private static final int CUTOFF = 15;
+
+    public static String[] sort(String[] a) {
+        Helper.shuffle(a);
+        sort(a, 0, a.length - 1, 0);
+        return a;
+    }
+
+    private static int charAt(String s, int d) {
+        return d < s.length() ? s.charAt(d) : -1;
+    }
+
+    private static void sort(String[] a, int lo, int hi, int d) {
+        if (hi <= lo + CUTOFF) {
+            InsertionSort.sort(a, lo, hi);
+            return;
+        }
+        int lt = lo;
+        int gt = hi;
+        int v = charAt(a[lo], d);
+        int i = lo + 1;
+        while (i <= gt) {
+            int t = charAt(a[i], d);
+            if (t < v) {
+                Helper.exchange(a, lt++, i++);
+            } else if (t > v) {
+                Helper.exchange(a, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        sort(a, lo, lt - 1, d);
+        if (v >= 0) {
+            sort(a, lt, gt, d + 1);
+        }
+        sort(a, gt + 1, hi, d);
+    }
+}
\ No newline at end of file
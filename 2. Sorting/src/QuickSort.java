@@ -1,5 +1,10 @@
+import java.util.Comparator;
+
 public class QuickSort {
 
+    private static final int INSERTION_SORT_CUTOFF = 16;
+    private static final int NINTHER_CUTOFF = 40;
+
     static Comparable[] sort(Comparable[] a) {
 
         Helper.shuffle(a);
@@ -9,6 +14,131 @@ public class QuickSort {
         return a;
     }
 
+    static Comparable[] introSort(Comparable[] a) {
+        // No shuffle: pivots come from median-of-3 or Tukey's ninther, and a
+        // range that recurses deeper than 2 lg n falls back to heapsort, so
+        // the worst case is O(n log n) on any input.
+        return introSort(a, 0, a.length - 1);
+    }
+
+    static Comparable[] introSort(Comparable[] a, int lo, int hi) {
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(hi - lo + 1, 1)));
+        introSort(a, lo, hi, depthLimit);
+        return a;
+    }
+
+    private static void introSort(Comparable[] a, int lo, int hi, int depthLimit) {
+        while (hi - lo >= INSERTION_SORT_CUTOFF) {
+            if (depthLimit-- == 0) {
+                HeapSort.sort(a, lo, hi);
+                return;
+            }
+            Helper.exchange(a, lo, pivot(a, lo, hi));
+            int j = QuickSortPartition.partition(a, lo, hi);
+            // Recurse into the smaller part and loop on the larger one to bound the stack.
+            if (j - lo < hi - j) {
+                introSort(a, lo, j - 1, depthLimit);
+                lo = j + 1;
+            } else {
+                introSort(a, j + 1, hi, depthLimit);
+                hi = j - 1;
+            }
+        }
+        InsertionSort.sort(a, lo, hi);
+    }
+
+    static int pivot(Comparable[] a, int lo, int hi) {
+        int n = hi - lo + 1;
+        int mid = lo + n / 2;
+        if (n <= NINTHER_CUTOFF) {
+            return median3(a, lo, mid, hi);
+        }
+        int eps = n / 8;
+        int m1 = median3(a, lo, lo + eps, lo + eps + eps);
+        int m2 = median3(a, mid - eps, mid, mid + eps);
+        int m3 = median3(a, hi - eps - eps, hi - eps, hi);
+        return median3(a, m1, m2, m3);
+    }
+
+    private static int median3(Comparable[] a, int i, int j, int k) {
+        // Index of the median of a[i], a[j] and a[k].
+        return Helper.less(a[i], a[j])
+                ? (Helper.less(a[j], a[k]) ? j : Helper.less(a[i], a[k]) ? k : i)
+                : (Helper.less(a[k], a[j]) ? j : Helper.less(a[k], a[i]) ? k : i);
+    }
+
+    static <T> T[] sort(T[] a, Comparator<? super T> c) {
+
+        Helper.shuffle(a);
+        QuickSortPartition3Way.sort(a, 0, a.length - 1, c);
+        return a;
+    }
+
+    static <T> T[] introSort(T[] a, Comparator<? super T> c) {
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(a.length, 1)));
+        introSort(a, 0, a.length - 1, depthLimit, c);
+        return a;
+    }
+
+    private static <T> void introSort(T[] a, int lo, int hi, int depthLimit, Comparator<? super T> c) {
+        while (hi - lo >= INSERTION_SORT_CUTOFF) {
+            if (depthLimit-- == 0) {
+                HeapSort.sort(a, lo, hi, c);
+                return;
+            }
+            Helper.exchange(a, lo, pivot(a, lo, hi, c));
+            int j = QuickSortPartition.partition(a, lo, hi, c);
+            if (j - lo < hi - j) {
+                introSort(a, lo, j - 1, depthLimit, c);
+                lo = j + 1;
+            } else {
+                introSort(a, j + 1, hi, depthLimit, c);
+                hi = j - 1;
+            }
+        }
+        InsertionSort.sort(a, lo, hi, c);
+    }
+
+    private static <T> int pivot(T[] a, int lo, int hi, Comparator<? super T> c) {
+        int n = hi - lo + 1;
+        int mid = lo + n / 2;
+        if (n <= NINTHER_CUTOFF) {
+            return median3(a, lo, mid, hi, c);
+        }
+        int eps = n / 8;
+        int m1 = median3(a, lo, lo + eps, lo + eps + eps, c);
+        int m2 = median3(a, mid - eps, mid, mid + eps, c);
+        int m3 = median3(a, hi - eps - eps, hi - eps, hi, c);
+        return median3(a, m1, m2, m3, c);
+    }
+
+    private static <T> int median3(T[] a, int i, int j, int k, Comparator<? super T> c) {
+        return Helper.less(c, a[i], a[j])
+                ? (Helper.less(c, a[j], a[k]) ? j : Helper.less(c, a[i], a[k]) ? k : i)
+                : (Helper.less(c, a[k], a[j]) ? j : Helper.less(c, a[k], a[i]) ? k : i);
+    }
+
+    static int[] sort(int[] a) {
+
+        Helper.shuffle(a);
+        QuickSortPartition3Way.sort(a, 0, a.length - 1);
+        return a;
+    }
+
+    static long[] sort(long[] a) {
+
+        Helper.shuffle(a);
+        QuickSortPartition3Way.sort(a, 0, a.length - 1);
+        return a;
+    }
+
+    static double[] sort(double[] a) {
+
+        Helper.shuffle(a);
+        QuickSortPartition3Way.sort(a, 0, a.length - 1);
+        return a;
+    }
+
     private static Comparable[] sort(Comparable[] a, int lo, int hi) {
 
         if (hi <= lo) {
@@ -0,0 +1,233 @@
+import java.util.Comparator;
+
+public class QuickSortBlockPartition {
+
+    // BlockQuicksort (Edelkamp and Weiss). Instead of a loop that branches on
+    // every compare, a block of BLOCK keys from each end is scanned and the
+    // offsets of misplaced keys are recorded with an unconditional store and
+    // an add of the compare result, which compiles without a branch. Pairs
+    // of recorded offsets are then swapped. What is left when fewer than two
+    // blocks remain is finished by a plain Hoare scan. Pivots are median of
+    // three, so no shuffle is needed.
+    private static final int BLOCK = 128;
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    public static int[] sort(int[] a) {
+        int[] offsetsL = new int[BLOCK];
+        int[] offsetsR = new int[BLOCK];
+        sort(a, 0, a.length - 1, offsetsL, offsetsR);
+        return a;
+    }
+
+    private static void sort(int[] a, int lo, int hi, int[] offsetsL, int[] offsetsR) {
+        while (hi - lo >= INSERTION_SORT_CUTOFF) {
+            int mid = lo + (hi - lo) / 2;
+            if (Helper.less(a[mid], a[lo])) Helper.exchange(a, mid, lo);
+            if (Helper.less(a[hi], a[lo])) Helper.exchange(a, hi, lo);
+            if (Helper.less(a[hi], a[mid])) Helper.exchange(a, hi, mid);
+            Helper.exchange(a, lo, mid);                    // median of three to a[lo]
+
+            int j = partition(a, lo, hi, offsetsL, offsetsR);
+            if (j - lo < hi - j) {
+                sort(a, lo, j - 1, offsetsL, offsetsR);
+                lo = j + 1;
+            } else {
+                sort(a, j + 1, hi, offsetsL, offsetsR);
+                hi = j - 1;
+            }
+        }
+        for (int i = lo + 1; i <= hi; i++) {
+            for (int j = i; j > lo && Helper.less(a[j], a[j - 1]); j--) {
+                Helper.exchange(a, j, j - 1);
+            }
+        }
+    }
+
+    static int partition(int[] a, int lo, int hi, int[] offsetsL, int[] offsetsR) {
+        // Partition a[lo..hi] on v = a[lo]; returns j with a[lo..j-1] <= a[j] = v <= a[j+1..hi].
+        int v = a[lo];
+        int l = lo + 1;
+        int r = hi;
+        int numL = 0, numR = 0, startL = 0, startR = 0;
+        while (r - l + 1 > 2 * BLOCK) {
+            if (numL == 0) {
+                startL = 0;
+                for (int i = 0; i < BLOCK; i++) {
+                    offsetsL[numL] = i;
+                    numL += Helper.less(a[l + i], v) ? 0 : 1;   // belongs on the right
+                }
+            }
+            if (numR == 0) {
+                startR = 0;
+                for (int i = 0; i < BLOCK; i++) {
+                    offsetsR[numR] = i;
+                    numR += Helper.less(v, a[r - i]) ? 0 : 1;   // belongs on the left
+                }
+            }
+            int num = Math.min(numL, numR);
+            for (int k = 0; k < num; k++) {
+                Helper.exchange(a, l + offsetsL[startL + k], r - offsetsR[startR + k]);
+            }
+            numL -= num;
+            numR -= num;
+            startL += num;
+            startR += num;
+            if (numL == 0) l += BLOCK;
+            if (numR == 0) r -= BLOCK;
+        }
+
+        // Now a[lo+1..l-1] <= v <= a[r+1..hi]; finish a[l..r] the classic way.
+        int i = l;
+        int j = r;
+        while (true) {
+            while (i <= j && Helper.less(a[i], v)) i++;
+            while (i <= j && Helper.less(v, a[j])) j--;
+            if (i >= j) break;
+            Helper.exchange(a, i++, j--);
+        }
+        Helper.exchange(a, lo, i - 1);
+        return i - 1;
+    }
+
+    public static Comparable[] sort(Comparable[] a) {
+        int[] offsetsL = new int[BLOCK];
+        int[] offsetsR = new int[BLOCK];
+        sort(a, 0, a.length - 1, offsetsL, offsetsR);
+        return a;
+    }
+
+    private static void sort(Comparable[] a, int lo, int hi, int[] offsetsL, int[] offsetsR) {
+        while (hi - lo >= INSERTION_SORT_CUTOFF) {
+            int mid = lo + (hi - lo) / 2;
+            if (Helper.less(a[mid], a[lo])) Helper.exchange(a, mid, lo);
+            if (Helper.less(a[hi], a[lo])) Helper.exchange(a, hi, lo);
+            if (Helper.less(a[hi], a[mid])) Helper.exchange(a, hi, mid);
+            Helper.exchange(a, lo, mid);
+
+            int j = partition(a, lo, hi, offsetsL, offsetsR);
+            if (j - lo < hi - j) {
+                sort(a, lo, j - 1, offsetsL, offsetsR);
+                lo = j + 1;
+            } else {
+                sort(a, j + 1, hi, offsetsL, offsetsR);
+                hi = j - 1;
+            }
+        }
+        InsertionSort.sort(a, lo, hi);
+    }
+
+    static int partition(Comparable[] a, int lo, int hi, int[] offsetsL, int[] offsetsR) {
+        Comparable v = a[lo];
+        int l = lo + 1;
+        int r = hi;
+        int numL = 0, numR = 0, startL = 0, startR = 0;
+        while (r - l + 1 > 2 * BLOCK) {
+            if (numL == 0) {
+                startL = 0;
+                for (int i = 0; i < BLOCK; i++) {
+                    offsetsL[numL] = i;
+                    numL += Helper.less(a[l + i], v) ? 0 : 1;
+                }
+            }
+            if (numR == 0) {
+                startR = 0;
+                for (int i = 0; i < BLOCK; i++) {
+                    offsetsR[numR] = i;
+                    numR += Helper.less(v, a[r - i]) ? 0 : 1;
+                }
+            }
+            int num = Math.min(numL, numR);
+            for (int k = 0; k < num; k++) {
+                Helper.exchange(a, l + offsetsL[startL + k], r - offsetsR[startR + k]);
+            }
+            numL -= num;
+            numR -= num;
+            startL += num;
+            startR += num;
+            if (numL == 0) l += BLOCK;
+            if (numR == 0) r -= BLOCK;
+        }
+
+        int i = l;
+        int j = r;
+        while (true) {
+            while (i <= j && Helper.less(a[i], v)) i++;
+            while (i <= j && Helper.less(v, a[j])) j--;
+            if (i >= j) break;
+            Helper.exchange(a, i++, j--);
+        }
+        Helper.exchange(a, lo, i - 1);
+        return i - 1;
+    }
+
+    public static <T> T[] sort(T[] a, Comparator<? super T> c) {
+        int[] offsetsL = new int[BLOCK];
+        int[] offsetsR = new int[BLOCK];
+        sort(a, 0, a.length - 1, offsetsL, offsetsR, c);
+        return a;
+    }
+
+    private static <T> void sort(T[] a, int lo, int hi, int[] offsetsL, int[] offsetsR, Comparator<? super T> c) {
+        while (hi - lo >= INSERTION_SORT_CUTOFF) {
+            int mid = lo + (hi - lo) / 2;
+            if (Helper.less(c, a[mid], a[lo])) Helper.exchange(a, mid, lo);
+            if (Helper.less(c, a[hi], a[lo])) Helper.exchange(a, hi, lo);
+            if (Helper.less(c, a[hi], a[mid])) Helper.exchange(a, hi, mid);
+            Helper.exchange(a, lo, mid);
+
+            int j = partition(a, lo, hi, offsetsL, offsetsR, c);
+            if (j - lo < hi - j) {
+                sort(a, lo, j - 1, offsetsL, offsetsR, c);
+                lo = j + 1;
+            } else {
+                sort(a, j + 1, hi, offsetsL, offsetsR, c);
+                hi = j - 1;
+            }
+        }
+        InsertionSort.sort(a, lo, hi, c);
+    }
+
+    static <T> int partition(T[] a, int lo, int hi, int[] offsetsL, int[] offsetsR, Comparator<? super T> c) {
+        T v = a[lo];
+        int l = lo + 1;
+        int r = hi;
+        int numL = 0, numR = 0, startL = 0, startR = 0;
+        while (r - l + 1 > 2 * BLOCK) {
+            if (numL == 0) {
+                startL = 0;
+                for (int i = 0; i < BLOCK; i++) {
+                    offsetsL[numL] = i;
+                    numL += Helper.less(c, a[l + i], v) ? 0 : 1;
+                }
+            }
+            if (numR == 0) {
+                startR = 0;
+                for (int i = 0; i < BLOCK; i++) {
+                    offsetsR[numR] = i;
+                    numR += Helper.less(c, v, a[r - i]) ? 0 : 1;
+                }
+            }
+            int num = Math.min(numL, numR);
+            for (int k = 0; k < num; k++) {
+                Helper.exchange(a, l + offsetsL[startL + k], r - offsetsR[startR + k]);
+            }
+            numL -= num;
+            numR -= num;
+            startL += num;
+            startR += num;
+            if (numL == 0) l += BLOCK;
+            if (numR == 0) r -= BLOCK;
+        }
+
+        int i = l;
+        int j = r;
+        while (true) {
+            while (i <= j && Helper.less(c, a[i], v)) i++;
+            while (i <= j && Helper.less(c, v, a[j])) j--;
+            if (i >= j) break;
+            Helper.exchange(a, i++, j--);
+        }
+        Helper.exchange(a, lo, i - 1);
+        return i - 1;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+import java.util.Comparator;
+
+public class QuickSortDualPivot {
+
+    // Yaroslavskiy's dual-pivot partitioning: with p = a[lo] <= q = a[hi],
+    // one pass leaves a[lo..lt-1] < p <= a[lt..gt] <= q < a[gt+1..hi], and
+    // the three parts are sorted recursively. It makes about 5% fewer
+    // compares than one pivot and noticeably fewer cache misses.
+    private static final int INSERTION_SORT_CUTOFF = 16;
+
+    public static Comparable[] sort(Comparable[] a) {
+        Helper.shuffle(a);
+        sort(a, 0, a.length - 1);
+        return a;
+    }
+
+    private static void sort(Comparable[] a, int lo, int hi) {
+        if (hi - lo < INSERTION_SORT_CUTOFF) {
+            InsertionSort.sort(a, lo, hi);
+            return;
+        }
+        if (Helper.less(a[hi], a[lo])) {
+            Helper.exchange(a, lo, hi);
+        }
+        Comparable p = a[lo];
+        Comparable q = a[hi];
+        int lt = lo + 1;
+        int gt = hi - 1;
+        int i = lo + 1;
+        while (i <= gt) {
+            if (Helper.less(a[i], p)) {
+                Helper.exchange(a, lt++, i++);
+            } else if (Helper.less(q, a[i])) {
+                Helper.exchange(a, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        Helper.exchange(a, lo, --lt);
+        Helper.exchange(a, hi, ++gt);
+
+        sort(a, lo, lt - 1);
+        if (Helper.less(a[lt], a[gt])) {
+            sort(a, lt + 1, gt - 1);            // all equal to the pivots otherwise
+        }
+        sort(a, gt + 1, hi);
+    }
+
+    public static <T> T[] sort(T[] a, Comparator<? super T> c) {
+        Helper.shuffle(a);
+        sort(a, 0, a.length - 1, c);
+        return a;
+    }
+
+    private static <T> void sort(T[] a, int lo, int hi, Comparator<? super T> c) {
+        if (hi - lo < INSERTION_SORT_CUTOFF) {
+            InsertionSort.sort(a, lo, hi, c);
+            return;
+        }
+        if (Helper.less(c, a[hi], a[lo])) {
+            Helper.exchange(a, lo, hi);
+        }
+        T p = a[lo];
+        T q = a[hi];
+        int lt = lo + 1;
+        int gt = hi - 1;
+        int i = lo + 1;
+        while (i <= gt) {
+            if (Helper.less(c, a[i], p)) {
+                Helper.exchange(a, lt++, i++);
+            } else if (Helper.less(c, q, a[i])) {
+                Helper.exchange(a, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        Helper.exchange(a, lo, --lt);
+        Helper.exchange(a, hi, ++gt);
+
+        sort(a, lo, lt - 1, c);
+        if (Helper.less(c, a[lt], a[gt])) {
+            sort(a, lt + 1, gt - 1, c);
+        }
+        sort(a, gt + 1, hi, c);
+    }
+
+    public static int[] sort(int[] a) {
+        Helper.shuffle(a);
+        sort(a, 0, a.length - 1);
+        return a;
+    }
+
+    private static void sort(int[] a, int lo, int hi) {
+        if (hi - lo < INSERTION_SORT_CUTOFF) {
+            for (int i = lo + 1; i <= hi; i++) {
+                for (int j = i; j > lo && Helper.less(a[j], a[j - 1]); j--) {
+                    Helper.exchange(a, j, j - 1);
+                }
+            }
+            return;
+        }
+        if (Helper.less(a[hi], a[lo])) {
+            Helper.exchange(a, lo, hi);
+        }
+        int p = a[lo];
+        int q = a[hi];
+        int lt = lo + 1;
+        int gt = hi - 1;
+        int i = lo + 1;
+        while (i <= gt) {
+            if (Helper.less(a[i], p)) {
+                Helper.exchange(a, lt++, i++);
+            } else if (Helper.less(q, a[i])) {
+                Helper.exchange(a, i, gt--);
+            } else {
+                i++;
+            }
+        }
+        Helper.exchange(a, lo, --lt);
+        Helper.exchange(a, hi, ++gt);
+
+        sort(a, lo, lt - 1);
+        if (Helper.less(a[lt], a[gt])) {
+            sort(a, lt + 1, gt - 1);
+        }
+        sort(a, gt + 1, hi);
+    }
+}
\ No newline at end of file
@@ -1,3 +1,5 @@
+import java.util.Comparator;
+
 public class QuickSortPartition {
 
     static int partition(Comparable[] a, int lo, int hi) {
@@ -23,4 +25,52 @@ public class QuickSortPartition {
         Helper.exchange(a, lo, j);
         return j;
     }
+
+    static <T> int partition(T[] a, int lo, int hi, Comparator<? super T> c) {
+        int i = lo;
+        int j = hi + 1;
+        T v = a[lo];
+        while (true) {
+            while (Helper.less(c, a[++i], v)) {
+                if (i == hi) {
+                    break;
+                }
+            }
+            while (Helper.less(c, v, a[--j])) {
+                if (j == lo) {
+                    break;
+                }
+            }
+            if (i >= j) {
+                break;
+            }
+            Helper.exchange(a, i, j);
+        }
+        Helper.exchange(a, lo, j);
+        return j;
+    }
+
+    static int partition(int[] a, int lo, int hi) {
+        int i = lo;
+        int j = hi + 1;
+        int v = a[lo];
+        while (true) {
+            while (Helper.less(a[++i], v)) {
+                if (i == hi) {
+                    break;
+                }
+            }
+            while (Helper.less(v, a[--j])) {
+                if (j == lo) {
+                    break;
+                }
+            }
+            if (i >= j) {
+                break;
+            }
+            Helper.exchange(a, i, j);
+        }
+        Helper.exchange(a, lo, j);
+        return j;
+    }
 }
\ No newline at end of file
@@ -1,3 +1,5 @@
+import java.util.Comparator;
+
 public class QuickSortPartition3Way {
 
     public static Comparable[] sort(Comparable[] a, int lo, int hi) {
@@ -10,7 +12,7 @@ public class QuickSortPartition3Way {
         int gt = hi;
         Comparable v = a[lo];
         while (i <= gt) {
-            int cmp = a[i].compareTo(v);
+            int cmp = Helper.compare(a[i], v);
             if (cmp < 0) {
                 Helper.exchange(a, lt++, i++);
             } else if (cmp > 0) {
@@ -21,4 +23,89 @@ public class QuickSortPartition3Way {
         sort(a, gt + 1, hi);
         return a;
     }
+
+    public static <T> T[] sort(T[] a, int lo, int hi, Comparator<? super T> c) {
+
+        if (hi <= lo) {
+            return a;
+        }
+        int lt = lo;
+        int i = lo + 1;
+        int gt = hi;
+        T v = a[lo];
+        while (i <= gt) {
+            int cmp = Helper.compare(c, a[i], v);
+            if (cmp < 0) {
+                Helper.exchange(a, lt++, i++);
+            } else if (cmp > 0) {
+                Helper.exchange(a, i, gt--);
+            } else i++;
+        }
+        sort(a, lo, lt - 1, c);
+        sort(a, gt + 1, hi, c);
+        return a;
+    }
+
+    public static int[] sort(int[] a, int lo, int hi) {
+
+        if (hi <= lo) {
+            return a;
+        }
+        int lt = lo;
+        int i = lo + 1;
+        int gt = hi;
+        int v = a[lo];
+        while (i <= gt) {
+            if (Helper.less(a[i], v)) {
+                Helper.exchange(a, lt++, i++);
+            } else if (Helper.less(v, a[i])) {
+                Helper.exchange(a, i, gt--);
+            } else i++;
+        }
+        sort(a, lo, lt - 1);
+        sort(a, gt + 1, hi);
+        return a;
+    }
+
+    public static long[] sort(long[] a, int lo, int hi) {
+
+        if (hi <= lo) {
+            return a;
+        }
+        int lt = lo;
+        int i = lo + 1;
+        int gt = hi;
+        long v = a[lo];
+        while (i <= gt) {
+            if (Helper.less(a[i], v)) {
+                Helper.exchange(a, lt++, i++);
+            } else if (Helper.less(v, a[i])) {
+                Helper.exchange(a, i, gt--);
+            } else i++;
+        }
+        sort(a, lo, lt - 1);
+        sort(a, gt + 1, hi);
+        return a;
+    }
+
+    public static double[] sort(double[] a, int lo, int hi) {
+
+        if (hi <= lo) {
+            return a;
+        }
+        int lt = lo;
+        int i = lo + 1;
+        int gt = hi;
+        double v = a[lo];
+        while (i <= gt) {
+            if (Helper.less(a[i], v)) {
+                Helper.exchange(a, lt++, i++);
+            } else if (Helper.less(v, a[i])) {
+                Helper.exchange(a, i, gt--);
+            } else i++;
+        }
+        sort(a, lo, lt - 1);
+        sort(a, gt + 1, hi);
+        return a;
+    }
 }
\ No newline at end of file
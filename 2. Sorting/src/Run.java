@@ -3,8 +3,75 @@ import java.util.Scanner;
 
 public class Run {
 
+    static void sort(String algorithm, Comparable[] a) {
+        // Sort a in place with the algorithm named on the command line.
+        switch (algorithm) {
+            case "selection":
+                SelectionSort.sort(a);
+                break;
+            case "insertion":
+                InsertionSort.sort(a);
+                break;
+            case "shell":
+                Shellsort.sort(a);
+                break;
+            case "merge":
+                MergeSort.sort(a);
+                break;
+            case "mergebu":
+                MergeSortBU.sort(a);
+                break;
+            case "natural":
+                NaturalMergeSort.sort(a);
+                break;
+            case "quick":
+                QuickSort.sort(a);
+                break;
+            case "intro":
+                QuickSort.introSort(a);
+                break;
+            case "dualpivot":
+                QuickSortDualPivot.sort(a);
+                break;
+            case "block":
+                QuickSortBlockPartition.sort(a);
+                break;
+            case "heap":
+                HeapSort.sort(a);
+                break;
+            case "lsd": {
+                // Integer keys only; a string key fails the cast below.
+                int[] keys = new int[a.length];
+                for (int i = 0; i < a.length; i++) {
+                    keys[i] = (Integer) a[i];
+                }
+                LSDRadixSort.sort(keys);
+                for (int i = 0; i < a.length; i++) {
+                    a[i] = keys[i];
+                }
+                break;
+            }
+            case "msd":
+            case "quick3string": {
+                // String keys only; an integer key fails the cast below.
+                String[] keys = new String[a.length];
+                for (int i = 0; i < a.length; i++) {
+                    keys[i] = (String) a[i];
+                }
+                if (algorithm.equals("msd")) MSDRadixSort.sort(keys);
+                else Quick3String.sort(keys);
+                System.arraycopy(keys, 0, a, 0, a.length);
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("unknown sorting algorithm: " + algorithm);
+        }
+    }
+
     public static void main(String[] args) {
 
+        // optional first argument picks the algorithm, see sort() above
+        String algorithm = args.length > 0 ? args[0] : "quick";
         Scanner reader = new Scanner(System.in);
         System.out.println("Enter the values and press enter, confirm with '#': ");
 
@@ -30,11 +97,12 @@ public class Run {
         try {
             Comparable[] a = list.toArray(new Comparable[list.size()]);
 //            call sorting algorithm
-            QuickSort.sort(a);
+            sort(algorithm, a);
             assert Helper.isSorted(a);
             Helper.print(a);
         } catch (ClassCastException e) {
-            System.out.println("ERROR: the provided values must be of the same type (strings or numbers)");
+            System.out.println("ERROR: the provided values must be of the same type (strings or numbers)"
+                    + " and match the algorithm (numbers for lsd, strings for msd and quick3string)");
         }
     }
 }
\ No newline at end of file
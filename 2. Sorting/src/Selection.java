@@ -0,0 +1,137 @@
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Random;
+
+public class Selection {
+
+    // Order statistics without sorting everything.
+    //
+    // select() is Floyd-Rivest: while the range is large it first selects
+    // recursively within a small sample around where the k-th key should
+    // land, which leaves a pivot in a[k] very close to the answer, and then
+    // partitions once with QuickSortPartition. That averages about
+    // n + min(k, n - k) compares. Small ranges use QuickSort's median-of-3 /
+    // ninther pivot. A range that has not closed in after 2 lg n + 2 rounds
+    // is heapsorted, so the worst case is O(n log n) instead of quadratic.
+    private static final int SAMPLE_CUTOFF = 600;       // smaller ranges skip the sample
+    private static final int HEAP_ARITY = 4;            // for topK, see HeapBenchmark
+
+    public static Comparable select(Comparable[] a, int k) {
+        // Rearranges a so that a[k] is the (k+1)st smallest key, with no larger
+        // key to its left and no smaller key to its right, and returns it.
+        if (k < 0 || k >= a.length) {
+            throw new IllegalArgumentException("k out of range: " + k);
+        }
+        int depthLimit = 2 * (31 - Integer.numberOfLeadingZeros(a.length)) + 2;
+        select(a, 0, a.length - 1, k, depthLimit);
+        return a[k];
+    }
+
+    private static void select(Comparable[] a, int lo, int hi, int k, int depthLimit) {
+        while (hi > lo) {
+            if (depthLimit-- == 0) {
+                HeapSort.sort(a, lo, hi);
+                return;
+            }
+            if (hi - lo > SAMPLE_CUTOFF) {
+                // Sample of about n^(2/3) keys, skewed toward the side k is on.
+                int n = hi - lo + 1;
+                int i = k - lo + 1;
+                double z = Math.log(n);
+                double s = 0.5 * Math.exp(2 * z / 3);
+                double sd = 0.5 * Math.sqrt(z * s * (n - s) / n) * Integer.signum(i - n / 2);
+                int sampleLo = Math.max(lo, (int) (k - i * s / n + sd));
+                int sampleHi = Math.min(hi, (int) (k + (n - i) * s / n + sd));
+                select(a, sampleLo, sampleHi, k, depthLimit);
+            } else {
+                Helper.exchange(a, k, QuickSort.pivot(a, lo, hi));
+            }
+            Helper.exchange(a, lo, k);
+            int j = QuickSortPartition.partition(a, lo, hi);
+            if (j < k) lo = j + 1;
+            else if (j > k) hi = j - 1;
+            else return;
+        }
+    }
+
+    public static Comparable[] partialSort(Comparable[] a, int k) {
+        // Puts the k smallest keys, in order, in a[0..k-1]; the rest of a is
+        // left in no particular order. O(n + k log k).
+        if (k < 0 || k > a.length) {
+            throw new IllegalArgumentException("k out of range: " + k);
+        }
+        if (k == 0) {
+            return a;
+        }
+        if (k == a.length) {
+            return QuickSort.introSort(a);
+        }
+        select(a, k - 1);
+        return QuickSort.introSort(a, 0, k - 2);
+    }
+
+    public static <Key extends Comparable<Key>> Comparable[] topK(Iterator<Key> it, int k) {
+        // The k smallest keys from it, in ascending order, holding at most k
+        // keys at a time: a max-heap of the k smallest so far, whose root is
+        // the next one to evict. O(n log k).
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be non-negative: " + k);
+        }
+        MaxPQ<Key> pq = new MaxPQ<Key>(k, HEAP_ARITY);
+        while (it.hasNext()) {
+            Key key = it.next();
+            if (pq.size() < k) {
+                pq.insert(key);
+            } else if (k > 0 && Helper.less(key, pq.max())) {
+                pq.replaceMax(key);
+            }
+        }
+        Comparable[] top = new Comparable[pq.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = pq.delMax();
+        }
+        return top;
+    }
+
+    public static void main(String[] args) {
+        // Median, a partial sort and a streaming top-k of n random Integers,
+        // each checked against and timed against a full QuickSort.sort.
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int k = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        Random random = new Random(42);
+        Integer[] keys = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt();
+        }
+
+        Integer[] sorted = keys.clone();
+        long start = System.nanoTime();
+        QuickSort.sort(sorted);
+        double sortMs = (System.nanoTime() - start) / 1e6;
+
+        Integer[] a = keys.clone();
+        start = System.nanoTime();
+        Comparable median = select(a, n / 2);
+        double selectMs = (System.nanoTime() - start) / 1e6;
+
+        Integer[] b = keys.clone();
+        start = System.nanoTime();
+        partialSort(b, k);
+        double partialMs = (System.nanoTime() - start) / 1e6;
+
+        start = System.nanoTime();
+        Comparable[] top = topK(Arrays.asList(keys).iterator(), k);
+        double topMs = (System.nanoTime() - start) / 1e6;
+
+        if (!median.equals(sorted[n / 2])) {
+            throw new AssertionError("wrong median");
+        }
+        for (int i = 0; i < k; i++) {
+            if (!b[i].equals(sorted[i]) || !top[i].equals(sorted[i])) {
+                throw new AssertionError("wrong key at " + i);
+            }
+        }
+        System.out.printf("n=%d k=%d  sort %.1f ms  select %.1f ms  partialSort %.1f ms  topK %.1f ms%n",
+                n, k, sortMs, selectMs, partialMs, topMs);
+    }
+}
\ No newline at end of file
@@ -1,3 +1,5 @@
+import java.util.Comparator;
+
 public class SelectionSort {
 
     public static Comparable[] sort(Comparable[] a) {
@@ -13,4 +15,60 @@ public class SelectionSort {
         }
         return a;
     }
+
+    public static <T> T[] sort(T[] a, Comparator<? super T> c) {
+
+        for (int i = 0; i < a.length; i++) {
+            int min = i;
+            for (int j = i + 1; j < a.length; j++) {
+                if (Helper.less(c, a[j], a[min])) {
+                    min = j;
+                }
+            }
+            Helper.exchange(a, i, min);
+        }
+        return a;
+    }
+
+    public static int[] sort(int[] a) {
+
+        for (int i = 0; i < a.length; i++) {
+            int min = i;
+            for (int j = i + 1; j < a.length; j++) {
+                if (Helper.less(a[j], a[min])) {
+                    min = j;
+                }
+            }
+            Helper.exchange(a, i, min);
+        }
+        return a;
+    }
+
+    public static long[] sort(long[] a) {
+
+        for (int i = 0; i < a.length; i++) {
+            int min = i;
+            for (int j = i + 1; j < a.length; j++) {
+                if (Helper.less(a[j], a[min])) {
+                    min = j;
+                }
+            }
+            Helper.exchange(a, i, min);
+        }
+        return a;
+    }
+
+    public static double[] sort(double[] a) {
+
+        for (int i = 0; i < a.length; i++) {
+            int min = i;
+            for (int j = i + 1; j < a.length; j++) {
+                if (Helper.less(a[j], a[min])) {
+                    min = j;
+                }
+            }
+            Helper.exchange(a, i, min);
+        }
+        return a;
+    }
 }
\ No newline at end of file
@@ -1,6 +1,94 @@
+import java.util.Arrays;
+import java.util.Comparator;
+
 public class Shellsort {
 
+    public enum Gaps {
+        KNUTH,                      // 1, 4, 13, 40, 121, ... (3h + 1), up to about n / 3
+        CIURA,                      // 1, 4, 10, 23, 57, 132, 301, 701, 1750, then h * 2.25
+        SEDGEWICK,                  // 1, 5, 19, 41, 109, ... 9 (4^k - 2^k) + 1 and 4^(k+2) - 6 2^(k+1) + 1 (1986)
+        TOKUDA;                     // 1, 4, 9, 20, 46, 103, ... ceil(h'), h' = 2.25 h' + 1
+
+        private static final int[] CIURA_GAPS = {1, 4, 10, 23, 57, 132, 301, 701, 1750};
+
+        public int[] gaps(int n) {
+            // Ascending gaps to use for an array of length n, starting at 1.
+            long[] g = new long[64];
+            int m = 0;
+            switch (this) {
+                case KNUTH:
+                    g[m++] = 1;
+                    while (g[m - 1] < n / 3) {
+                        g[m] = 3 * g[m - 1] + 1;
+                        m++;
+                    }
+                    break;
+                case CIURA:
+                    for (int h : CIURA_GAPS) {
+                        if (m > 0 && h >= n) break;
+                        g[m++] = h;
+                    }
+                    while (m >= CIURA_GAPS.length) {
+                        long h = (long) (g[m - 1] * 2.25);
+                        if (h >= n) break;
+                        g[m++] = h;
+                    }
+                    break;
+                case SEDGEWICK:
+                    g[m++] = 1;
+                    for (int k = 0; ; k++) {
+                        long odd = 4L * (1L << (2 * k + 2)) - 6 * (1L << (k + 1)) + 1;        // 5, 41, 209, ...
+                        long even = 9 * ((1L << (2 * k + 2)) - (1L << (k + 1))) + 1;          // 19, 109, 505, ...
+                        if (odd >= n) break;
+                        g[m++] = odd;
+                        if (even >= n) break;
+                        g[m++] = even;
+                    }
+                    break;
+                case TOKUDA:
+                    g[m++] = 1;
+                    for (double h = 3.25; Math.ceil(h) < n; h = 2.25 * h + 1) {
+                        g[m++] = (long) Math.ceil(h);
+                    }
+                    break;
+            }
+            int[] gaps = new int[m];
+            for (int i = 0; i < m; i++) {
+                gaps[i] = (int) g[i];
+            }
+            return gaps;
+        }
+    }
+
     public static Comparable[] sort(Comparable[] a) {
+        return sort(a, Gaps.KNUTH);
+    }
+
+    public static Comparable[] sort(Comparable[] a, Gaps gaps) {
+        return sort(a, gaps.gaps(a.length));
+    }
+
+    public static Comparable[] sort(Comparable[] a, int[] gaps) {
+        // h-sort a for each gap h in gaps[], largest first; gaps[] is
+        // ascending and starts at 1. Each h-insertion shifts larger keys
+        // right and writes the key once, instead of exchanging at every step.
+        checkGaps(gaps);
+        int n = a.length;
+        for (int g = gaps.length - 1; g >= 0; g--) {
+            int h = gaps[g];
+            for (int i = h; i < n; i++) {
+                Comparable v = a[i];
+                int j = i;
+                for (; j >= h && Helper.less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
+        }
+        return a;
+    }
+
+    public static <T> T[] sort(T[] a, Comparator<? super T> c) {
 
         int n = a.length;
         int h = 1;
@@ -9,7 +97,7 @@ public class Shellsort {
         }
         while (h >= 1) {
             for (int i = h; i < n; i++) {
-                for (int j = i; j >= h && Helper.less(a[j], a[j - h]); j -= h) {
+                for (int j = i; j >= h && Helper.less(c, a[j], a[j - h]); j -= h) {
                     Helper.exchange(a, j, j - h);
                 }
             }
@@ -17,4 +105,90 @@ public class Shellsort {
         }
         return a;
     }
+
+    public static int[] sort(int[] a) {
+        return sort(a, Gaps.KNUTH);
+    }
+
+    public static int[] sort(int[] a, Gaps gaps) {
+        return sort(a, gaps.gaps(a.length));
+    }
+
+    public static int[] sort(int[] a, int[] gaps) {
+        checkGaps(gaps);
+        int n = a.length;
+        for (int g = gaps.length - 1; g >= 0; g--) {
+            int h = gaps[g];
+            for (int i = h; i < n; i++) {
+                int v = a[i];
+                int j = i;
+                for (; j >= h && Helper.less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
+        }
+        return a;
+    }
+
+    public static long[] sort(long[] a) {
+        return sort(a, Gaps.KNUTH);
+    }
+
+    public static long[] sort(long[] a, Gaps gaps) {
+        return sort(a, gaps.gaps(a.length));
+    }
+
+    public static long[] sort(long[] a, int[] gaps) {
+        checkGaps(gaps);
+        int n = a.length;
+        for (int g = gaps.length - 1; g >= 0; g--) {
+            int h = gaps[g];
+            for (int i = h; i < n; i++) {
+                long v = a[i];
+                int j = i;
+                for (; j >= h && Helper.less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
+        }
+        return a;
+    }
+
+    public static double[] sort(double[] a) {
+        return sort(a, Gaps.KNUTH);
+    }
+
+    public static double[] sort(double[] a, Gaps gaps) {
+        return sort(a, gaps.gaps(a.length));
+    }
+
+    public static double[] sort(double[] a, int[] gaps) {
+        checkGaps(gaps);
+        int n = a.length;
+        for (int g = gaps.length - 1; g >= 0; g--) {
+            int h = gaps[g];
+            for (int i = h; i < n; i++) {
+                double v = a[i];
+                int j = i;
+                for (; j >= h && Helper.less(v, a[j - h]); j -= h) {
+                    a[j] = a[j - h];
+                }
+                a[j] = v;
+            }
+        }
+        return a;
+    }
+
+    private static void checkGaps(int[] gaps) {
+        if (gaps.length == 0 || gaps[0] != 1) {
+            throw new IllegalArgumentException("gaps must be ascending and start at 1: " + Arrays.toString(gaps));
+        }
+        for (int g = 1; g < gaps.length; g++) {
+            if (gaps[g] <= gaps[g - 1]) {
+                throw new IllegalArgumentException("gaps must be ascending and start at 1: " + Arrays.toString(gaps));
+            }
+        }
+    }
 }
\ No newline at end of file
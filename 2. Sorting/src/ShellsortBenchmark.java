@@ -0,0 +1,47 @@
+import java.util.Arrays;
+import java.util.Random;
+
+public class ShellsortBenchmark {
+
+    // Shellsort random int[] keys with each gap sequence at sizes 10^3 up to
+    // maxN, and print the best of a few trials in milliseconds, relative to
+    // Knuth's 3h + 1, and the winner at each size.
+    public static void main(String[] args) {
+        int maxN = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int trials = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        Shellsort.Gaps[] sequences = Shellsort.Gaps.values();
+        Random random = new Random(42);
+
+        System.out.printf("%-10s", "n");
+        for (Shellsort.Gaps gaps : sequences) {
+            System.out.printf(" %18s", gaps);
+        }
+        System.out.printf("  %s%n", "winner");
+        for (int n = 1000; n <= maxN; n *= 10) {
+            int[] keys = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = random.nextInt();
+            }
+            double[] best = new double[sequences.length];
+            Arrays.fill(best, Double.MAX_VALUE);
+            for (int t = 0; t < trials; t++) {
+                for (int s = 0; s < sequences.length; s++) {
+                    int[] a = keys.clone();
+                    long start = System.nanoTime();
+                    Shellsort.sort(a, sequences[s]);
+                    best[s] = Math.min(best[s], (System.nanoTime() - start) / 1e6);
+                    if (!Helper.isSorted(a)) {
+                        throw new AssertionError(sequences[s] + " did not sort");
+                    }
+                }
+            }
+            int winner = 0;
+            System.out.printf("%-10d", n);
+            for (int s = 0; s < sequences.length; s++) {
+                System.out.printf(" %9.2f (%5.0f%%)", best[s], 100 * best[s] / best[0]);
+                if (best[s] < best[winner]) winner = s;
+            }
+            System.out.printf("  %s%n", sequences[winner]);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+public class SortStats {
+
+    // Opt-in counters of compares, exchanges and writes to auxiliary arrays,
+    // fed by hooks in Helper.less/compare/exchange, in the merges and in the
+    // heap hole moves of HelperHeap. Enable with -Dsort.stats=true. ENABLED
+    // is a static final read once at class initialization, so when it is
+    // false the JIT folds every "if (SortStats.ENABLED)" hook away and the
+    // sorts run as before.
+    //
+    // record() measures one sort call on the calling thread and returns its
+    // counts; the totals over all calls are published over JMX as
+    // algorithms:type=SortStats. Work done on other threads, such as the
+    // ForkJoin workers of the parallel sorts, is not attributed to the call.
+    public static final boolean ENABLED = Boolean.getBoolean("sort.stats");
+    public static final String OBJECT_NAME = "algorithms:type=SortStats";
+
+    private static final int COMPARES = 0;
+    private static final int EXCHANGES = 1;
+    private static final int AUX_WRITES = 2;
+
+    private static final ThreadLocal<long[]> COUNTS = ThreadLocal.withInitial(() -> new long[3]);
+    private static final Totals TOTALS = new Totals();
+
+    static {
+        if (ENABLED) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(TOTALS, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                throw new IllegalStateException("could not register " + OBJECT_NAME, e);
+            }
+        }
+    }
+
+    private final long compares;
+    private final long exchanges;
+    private final long auxWrites;
+
+    private SortStats(long compares, long exchanges, long auxWrites) {
+        this.compares = compares;
+        this.exchanges = exchanges;
+        this.auxWrites = auxWrites;
+    }
+
+    public static SortStats record(Runnable sort) {
+        // Runs sort and returns what it cost; all zeros when instrumentation is off.
+        if (!ENABLED) {
+            sort.run();
+            return new SortStats(0, 0, 0);
+        }
+        long[] counts = COUNTS.get();
+        long compares = counts[COMPARES];
+        long exchanges = counts[EXCHANGES];
+        long auxWrites = counts[AUX_WRITES];
+        sort.run();
+        SortStats stats = new SortStats(counts[COMPARES] - compares, counts[EXCHANGES] - exchanges,
+                counts[AUX_WRITES] - auxWrites);
+        TOTALS.add(stats);
+        return stats;
+    }
+
+    static void compare() {
+        COUNTS.get()[COMPARES]++;
+    }
+
+    static void exchange() {
+        COUNTS.get()[EXCHANGES]++;
+    }
+
+    static void auxWrites(long n) {
+        COUNTS.get()[AUX_WRITES] += n;
+    }
+
+    public long compares() {
+        return compares;
+    }
+
+    public long exchanges() {
+        return exchanges;
+    }
+
+    public long auxWrites() {
+        return auxWrites;
+    }
+
+    public static SortStatsMXBean totals() {
+        return TOTALS;
+    }
+
+    @Override
+    public String toString() {
+        return compares + " compares, " + exchanges + " exchanges, " + auxWrites + " aux writes";
+    }
+
+    private static class Totals implements SortStatsMXBean {
+        private final AtomicLong sorts = new AtomicLong();
+        private final AtomicLong compares = new AtomicLong();
+        private final AtomicLong exchanges = new AtomicLong();
+        private final AtomicLong auxWrites = new AtomicLong();
+        private final AtomicLong maxCompares = new AtomicLong();
+
+        void add(SortStats stats) {
+            sorts.incrementAndGet();
+            compares.addAndGet(stats.compares);
+            exchanges.addAndGet(stats.exchanges);
+            auxWrites.addAndGet(stats.auxWrites);
+            maxCompares.accumulateAndGet(stats.compares, Math::max);
+        }
+
+        public long getSorts() {
+            return sorts.get();
+        }
+
+        public long getCompares() {
+            return compares.get();
+        }
+
+        public long getExchanges() {
+            return exchanges.get();
+        }
+
+        public long getAuxWrites() {
+            return auxWrites.get();
+        }
+
+        public long getMaxCompares() {
+            return maxCompares.get();
+        }
+
+        public void reset() {
+            sorts.set(0);
+            compares.set(0);
+            exchanges.set(0);
+            auxWrites.set(0);
+            maxCompares.set(0);
+        }
+    }
+
+    public static void main(String[] args) {
+        // java -Dsort.stats=true SortStats [n]: counts for a few sorters on
+        // the same n random keys, next to the textbook's leading terms.
+        if (!ENABLED) {
+            System.out.println("run with -Dsort.stats=true");
+            return;
+        }
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10000;
+        Random random = new Random(42);
+        Integer[] keys = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = random.nextInt();
+        }
+        double lg = Math.log(n) / Math.log(2);
+        System.out.printf("n=%d  n^2/2=%.0f  n lg n=%.0f%n", n, n * (double) n / 2, n * lg);
+        String[] names = {"selection", "insertion", "shell", "merge", "mergebu", "natural", "quick", "heap"};
+        for (String name : names) {
+            Integer[] a = keys.clone();
+            SortStats stats = record(() -> Run.sort(name, a));
+            if (!Helper.isSorted(a)) {
+                throw new AssertionError(name + " did not sort");
+            }
+            System.out.printf("%-10s %s%n", name, stats);
+        }
+        System.out.printf("totals: %d sorts, %d compares, max %d in one call%n",
+                TOTALS.getSorts(), TOTALS.getCompares(), TOTALS.getMaxCompares());
+    }
+}
\ No newline at end of file
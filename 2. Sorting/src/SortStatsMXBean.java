@@ -0,0 +1,15 @@
+public interface SortStatsMXBean {
+
+    // Totals over every SortStats.record() call since start-up or reset().
+    long getSorts();
+
+    long getCompares();
+
+    long getExchanges();
+
+    long getAuxWrites();
+
+    long getMaxCompares();          // most compares made by a single call
+
+    void reset();
+}
\ No newline at end of file
@@ -1,4 +1,4 @@
-import edu.princeton.cs.algorithms.Queue;
+import java.util.PrimitiveIterator;
 
 public class BreadthFirstPaths {
 
@@ -7,19 +7,26 @@ public class BreadthFirstPaths {
     private final int s;        // source
 
     public BreadthFirstPaths(Graph G, int s) {
+        this(G, s, new IntQueue());
+    }
+
+    public BreadthFirstPaths(Graph G, int s, IntQueue frontier) {
+        // frontier must be empty; pass a SpillingIntQueue to bound heap use on huge graphs.
+        if (!frontier.isEmpty()) throw new IllegalArgumentException("frontier queue is not empty");
         marked = new boolean[G.V()];
         edgesTo = new int[G.V()];
         this.s = s;
-        bfs(G, s);
+        bfs(G, s, frontier);
     }
 
-    private void bfs(Graph G, int s) {
-        Queue<Integer> queue = new Queue<Integer>();
+    private void bfs(Graph G, int s, IntQueue queue) {
         marked[s] = true;       // Mark the source
         queue.enqueue(s);       // and put it onto the queue.
         while (!queue.isEmpty()) {
             int v = queue.dequeue();    // Remove next vertex from the queue.
-            for (int w : G.adj(v)) {
+            PrimitiveIterator.OfInt it = G.adj(v).iterator();
+            while (it.hasNext()) {
+                int w = it.nextInt();
                 if (!marked[w]) {
                     edgesTo[w] = v;     // save last edge on a shortest path,
                     marked[w] = true;   // mark it because path is known,
@@ -33,6 +40,16 @@ public class BreadthFirstPaths {
         return marked[v];
     }
 
-//    public Iterable<Integer> pathTo(int v)
-    // Same as for DFS
+    public Stack<Integer> pathTo(int v) {
+        // Callers answering many queries can clear() the path when done to recycle its nodes.
+        if (!hasPathTo(v)) {
+            return null;
+        }
+        Stack<Integer> path = new Stack<Integer>(true);
+        for (int x = v; x != s; x = edgesTo[x]) {
+            path.push(x);
+        }
+        path.push(s);
+        return path;
+    }
 }
\ No newline at end of file
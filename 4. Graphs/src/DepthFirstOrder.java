@@ -1,23 +1,22 @@
-import edu.princeton.cs.algorithms.Queue;
-import edu.princeton.cs.algorithms.Stack;
+import java.util.PrimitiveIterator;
 
 public class DepthFirstOrder {
 
     private boolean[] marked;
 
-    private Queue<Integer> preorder;
-    private Queue<Integer> postorder;
+    private IntQueue preorder;
+    private IntQueue postorder;
     private int[] pre;
     private int[] post;
-    private Stack<Integer> reversePost;
+    private IntStack reversePost;
     private int preCounter;            // counter or preorder numbering
     private int postCounter;           // counter for postorder numbering
 
 
     public DepthFirstOrder(Digraph G) {
-        preorder = new Queue<Integer>();
-        postorder = new Queue<Integer>();
-        reversePost = new Stack<Integer>();
+        preorder = new IntQueue();
+        postorder = new IntQueue();
+        reversePost = new IntStack();
         marked = new boolean[G.V()];
 
         for (int v = 0; v < G.V(); v++) {
@@ -30,8 +29,8 @@ public class DepthFirstOrder {
     public DepthFirstOrder(EdgeWeightedDigraph G) {
         pre = new int[G.V()];
         post = new int[G.V()];
-        postorder = new Queue<Integer>();
-        preorder = new Queue<Integer>();
+        postorder = new IntQueue();
+        preorder = new IntQueue();
         marked = new boolean[G.V()];
         for (int v = 0; v < G.V(); v++)
             if (!marked[v]) dfs(G, v);
@@ -41,7 +40,9 @@ public class DepthFirstOrder {
         preorder.enqueue(v);
 
         marked[v] = true;
-        for (int w : G.adj(v)) {
+        PrimitiveIterator.OfInt it = G.adj(v).iterator();
+        while (it.hasNext()) {
+            int w = it.nextInt();
             if (!marked[w]) {
                 dfs(G, w);
             }
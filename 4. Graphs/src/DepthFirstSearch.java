@@ -1,3 +1,5 @@
+import java.util.PrimitiveIterator;
+
 public class DepthFirstSearch {
 
     private boolean[] marked;
@@ -8,12 +10,23 @@ public class DepthFirstSearch {
         dfs(G, s);
     }
 
-    private void dfs(Graph G, int v) {
-        marked[v] = true;
-        count++;
-        for (int w : G.adj(v)) {
-            if (!marked[w]) {
-                dfs(G, w);
+    private void dfs(Graph G, int s) {
+        // Explicit stack instead of recursion, so deep graphs cannot overflow the call stack.
+        IntStack stack = new IntStack();
+        stack.push(s);
+        while (!stack.isEmpty()) {
+            int v = stack.pop();
+            if (marked[v]) {
+                continue;
+            }
+            marked[v] = true;
+            count++;
+            PrimitiveIterator.OfInt it = G.adj(v).iterator();
+            while (it.hasNext()) {
+                int w = it.nextInt();
+                if (!marked[w]) {
+                    stack.push(w);
+                }
             }
         }
     }
@@ -1,4 +1,3 @@
-import edu.princeton.cs.algorithms.Bag;
 import edu.princeton.cs.introcs.In;
 
 import java.util.NoSuchElementException;
@@ -7,15 +6,15 @@ public class Digraph {
 
     private final int V;
     private int E;
-    private Bag<Integer>[] adj;
+    private IntBag[] adj;
     private int[] indegree;        // indegree[v] = indegree of vertex v
 
     public Digraph(int V) {
         this.V = V;
         this.E = 0;
-        adj = (Bag<Integer>[]) new Bag[V];
+        adj = new IntBag[V];
         for (int v = 0; v < V; v++) {
-            adj[v] = new Bag<Integer>();
+            adj[v] = new IntBag();
         }
     }
 
@@ -24,9 +23,9 @@ public class Digraph {
             this.V = in.readInt();
             if (V < 0) throw new IllegalArgumentException("number of vertices in a Digraph must be nonnegative");
             indegree = new int[V];
-            adj = (Bag<Integer>[]) new Bag[V];
+            adj = new IntBag[V];
             for (int v = 0; v < V; v++) {
-                adj[v] = new Bag<Integer>();
+                adj[v] = new IntBag();
             }
             int E = in.readInt();
             if (E < 0) throw new IllegalArgumentException("number of edges in a Digraph must be nonnegative");
@@ -53,7 +52,7 @@ public class Digraph {
         E++;
     }
 
-    public Iterable<Integer> adj(int v) {
+    public IntBag adj(int v) {
         return adj[v];
     }
 
@@ -1,5 +1,4 @@
 import edu.princeton.cs.algorithms.IndexMinPQ;
-import edu.princeton.cs.algorithms.Stack;
 
 public class DijkstraSP {
 
@@ -46,11 +45,12 @@ public class DijkstraSP {
         return distTo[v] < Double.POSITIVE_INFINITY;
     }
 
-    public Iterable<DirectedEdge> pathTo(int v) {
+    public Stack<DirectedEdge> pathTo(int v) {
+        // Callers answering many queries can clear() the path when done to recycle its nodes.
         if (!hasPathTo(v)) {
             return null;
         }
-        Stack<DirectedEdge> path = new Stack<DirectedEdge>();
+        Stack<DirectedEdge> path = new Stack<DirectedEdge>(true);
         for (DirectedEdge e = edgeTo[v]; e != null; e = edgeTo[e.from()]) {
             path.push(e);
         }
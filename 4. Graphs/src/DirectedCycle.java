@@ -1,5 +1,3 @@
-import edu.princeton.cs.algorithms.Stack;
-
 public class DirectedCycle {
 
     private boolean[] marked;
@@ -28,7 +26,7 @@ public class DirectedCycle {
                 edgeTo[w] = v;
                 dfs(G, w);
             } else if (onStack[w]) {
-                cycle = new Stack<Integer>();
+                cycle = new Stack<Integer>(true);
                 for (int x = v; x != w; x = edgeTo[x]) {
                     cycle.push(x);
                 }
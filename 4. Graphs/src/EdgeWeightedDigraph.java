@@ -1,11 +1,10 @@
-import edu.princeton.cs.algorithms.Bag;
 import edu.princeton.cs.introcs.In;
 
 public class EdgeWeightedDigraph {
 
     private final int V;                // number of vertices
     private int E;                      // number of edges
-    private Bag<DirectedEdge>[] adj;     // adjacency list
+    private ChunkedBag<DirectedEdge>[] adj; // adjacency list
     private int[] indegree;             // indegree[v] = indegree of vertex v
 
     public EdgeWeightedDigraph(int V) {
@@ -13,9 +12,9 @@ public class EdgeWeightedDigraph {
         this.V = V;
         this.E = 0;
         this.indegree = new int[V];
-        adj = (Bag<DirectedEdge>[]) new Bag[V];
+        adj = (ChunkedBag<DirectedEdge>[]) new ChunkedBag[V];
         for (int v = 0; v < V; v++)
-            adj[v] = new Bag<DirectedEdge>();
+            adj[v] = new ChunkedBag<DirectedEdge>();
     }
 
     public EdgeWeightedDigraph(In in) {
@@ -55,7 +54,7 @@ public class EdgeWeightedDigraph {
     }
 
     public Iterable<DirectedEdge> edges() {
-        Bag<DirectedEdge> bag = new Bag<DirectedEdge>();
+        ChunkedBag<DirectedEdge> bag = new ChunkedBag<DirectedEdge>();
         for (int v = 0; v < V; v++) {
             for (DirectedEdge e : adj[v]) {
                 bag.add(e);
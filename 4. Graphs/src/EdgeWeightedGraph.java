@@ -1,18 +1,17 @@
-import edu.princeton.cs.algorithms.Bag;
 import edu.princeton.cs.introcs.In;
 
 public class EdgeWeightedGraph {
 
     private final int V;            // number of vertices
     private int E;                  // number of edges
-    private Bag<Edge>[] adj;        // adjacency list
+    private ChunkedBag<Edge>[] adj; // adjacency list
 
     public EdgeWeightedGraph(int V) {
         this.V = V;
         this.E = E;
-        adj = (Bag<Edge>[]) new Bag[V];
+        adj = (ChunkedBag<Edge>[]) new ChunkedBag[V];
         for (int v = 0; v < V; v++) {
-            adj[v] = new Bag<Edge>();
+            adj[v] = new ChunkedBag<Edge>();
         }
     }
 
@@ -57,7 +56,7 @@ public class EdgeWeightedGraph {
     }
 
     public Iterable<Edge> edgs() {
-        Bag<Edge> bag = new Bag<Edge>();
+        ChunkedBag<Edge> bag = new ChunkedBag<Edge>();
         for (int v = 0; v < V; v++) {
             for (Edge e : adj[v]) {
                 if (e.other(v) > v) {
@@ -1,17 +1,16 @@
-import edu.princeton.cs.algorithms.Bag;
 import edu.princeton.cs.introcs.In;
 
 public class Graph {
 
     private final int V;        // number of vertices
     private int E = 0;          // number of edges
-    private Bag<Integer>[] adj; // adjacency lists
+    private IntBag[] adj;       // adjacency lists
 
     public Graph(int V) {
         this.V = V;
-        adj = (Bag<Integer>[]) new Bag[V];  // Create array of lists
+        adj = new IntBag[V];                // Create array of lists
         for (int v = 0; v < V; v++) {       // Initialize all lists
-            adj[v] = new Bag<Integer>();    // to empty.
+            adj[v] = new IntBag();          // to empty.
         }
     }
 
@@ -52,7 +51,7 @@ public class Graph {
         return s;
     }
 
-    public Iterable<Integer> adj(int v) {
+    public IntBag adj(int v) {
         return adj[v];
     }
 }
\ No newline at end of file
@@ -1,21 +1,17 @@
+import java.util.stream.IntStream;
+
 public class GraphHelper {
 
     public static int degree(Graph G, int v) {
-        int degree = 0;
-        for (int w : G.adj(v)) {
-            degree++;
-        }
-        return degree;
+        return G.adj(v).size();
     }
 
     public static int maxDegree(Graph G) {
-        int max = 0;
-        for (int v = 0; v < G.V(); v++) {
-            if (degree(G, v) > max) {
-                max = degree(G, v);
-            }
-        }
-        return max;
+        // Vertices are independent, so scan them on the common fork-join pool.
+        return IntStream.range(0, G.V()).parallel()
+                .map(v -> degree(G, v))
+                .max()
+                .orElse(0);
     }
 
     public static double averageDegree(Graph G) {
@@ -23,14 +19,9 @@ public class GraphHelper {
     }
 
     public static int numberOfSelfLoops(Graph G) {
-        int count = 0;
-        for (int v = 0; v < G.V(); v++) {
-            for (int w : G.adj(v)) {
-                if (v == w) {
-                    count++;
-                }
-            }
-        }
+        int count = IntStream.range(0, G.V()).parallel()
+                .map(v -> (int) G.adj(v).stream().filter(w -> w == v).count())
+                .sum();
         return count / 2;       // each edge counted twice
     }
 }
\ No newline at end of file